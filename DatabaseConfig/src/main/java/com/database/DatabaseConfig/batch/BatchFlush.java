@@ -0,0 +1,20 @@
+package com.database.DatabaseConfig.batch;
+
+import org.springframework.lang.Nullable;
+
+import java.sql.SQLException;
+
+/**
+ * Outcome of one batch written by a {@link BatchWriter}. {@code nanos} covers borrowing the connection,
+ * executing the batch and committing it.
+ */
+public record BatchFlush(String writer, int rows, long nanos, @Nullable SQLException error) {
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public double rowsPerSecond() {
+        return nanos > 0 ? rows * 1_000_000_000d / nanos : 0;
+    }
+}
@@ -0,0 +1,247 @@
+package com.database.DatabaseConfig.batch;
+
+import com.database.DatabaseConfig.properties.DatabaseConfigurationProperties;
+import lombok.extern.java.Log;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Collects rows from any number of threads in a bounded queue and writes them with one statement as
+ * JDBC batches, each in its own transaction. A batch is written once {@code size} rows are queued or
+ * {@code flushInterval} after its first row, whichever comes first. When the queue is full,
+ * {@link #write} blocks for up to {@code offerTimeout} and then rejects the row, so producers slow
+ * down to the rate the database accepts. A batch that fails is rolled back, logged and reported to the
+ * flush listener; its rows are not retried.
+ */
+@Log
+public class BatchWriter<T> implements AutoCloseable {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final String sql;
+    private final RowBinder<T> binder;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMillis;
+    private final Consumer<BatchFlush> listener;
+    private final BlockingQueue<T> queue;
+    private final Thread flusher;
+    private final AtomicLong accepted = new AtomicLong();
+    private final LongAdder rowsWritten = new LongAdder();
+    private final LongAdder rowsFailed = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final Object progress = new Object();
+    private long processed;
+    private volatile boolean flushRequested;
+    private final ReadWriteLock offerLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    public BatchWriter(String name, DataSource dataSource, String sql, RowBinder<T> binder,
+                       DatabaseConfigurationProperties.Batch settings, Consumer<BatchFlush> listener) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.sql = sql;
+        this.binder = binder;
+        this.batchSize = Math.max(1, settings.getSize());
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, settings.getFlushInterval()));
+        this.offerTimeoutMillis = settings.getOfferTimeout();
+        this.listener = listener;
+        this.queue = new ArrayBlockingQueue<>(Math.max(batchSize, settings.getQueueCapacity()));
+        this.flusher = new Thread(this::run, "db-batch-" + name);
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Queues a row, waiting up to {@code offerTimeout} for space.
+     *
+     * @throws RejectedExecutionException when the queue is still full after {@code offerTimeout}
+     * @throws IllegalStateException      when the writer is closed
+     */
+    public void write(T row) throws InterruptedException {
+        Lock lock = offerLock.readLock();
+        lock.lock();
+        try {
+            checkOpen();
+            if (!queue.offer(row) && !queue.offer(row, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("Batch writer " + name + " queue is full (" + queue.size() + " rows)");
+            }
+            accepted.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queues a row without waiting. Returns {@code false} when the queue is full.
+     */
+    public boolean tryWrite(T row) {
+        Lock lock = offerLock.readLock();
+        lock.lock();
+        try {
+            checkOpen();
+            if (!queue.offer(row)) {
+                return false;
+            }
+            accepted.incrementAndGet();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the rows queued so far without waiting for the flush interval, and returns once they have
+     * been written or have failed.
+     */
+    public void flush() throws InterruptedException {
+        long target = accepted.get();
+        synchronized (progress) {
+            while (processed < target && flusher.isAlive()) {
+                flushRequested = true;
+                progress.wait(10);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten.sum();
+    }
+
+    public long getRowsFailed() {
+        return rowsFailed.sum();
+    }
+
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    /**
+     * Stops accepting rows and waits until the queued rows have been written. Producers still offering a
+     * row finish first, so every accepted row is written or reported as failed.
+     */
+    @Override
+    public void close() {
+        Lock lock = offerLock.writeLock();
+        lock.lock();
+        try {
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Batch writer " + name + " is closed");
+        }
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(batchSize);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                T first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || flushRequested || closed) {
+                        break;
+                    }
+                    T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                if (queue.isEmpty()) {
+                    flushRequested = false;
+                }
+                writeBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            log.warning("Batch writer " + name + " interrupted, dropping " + (batch.size() + queue.size()) + " queued rows");
+        }
+    }
+
+    private void writeBatch(List<T> batch) {
+        long start = System.nanoTime();
+        SQLException error = null;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (T row : batch) {
+                    binder.bind(statement, row);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+                throw e;
+            }
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException e) {
+            error = e;
+        } catch (RuntimeException e) {
+            error = new SQLException("Failed to bind batch row: " + e.getMessage(), e);
+        }
+        BatchFlush flush = new BatchFlush(name, batch.size(), System.nanoTime() - start, error);
+        flushes.increment();
+        if (error == null) {
+            rowsWritten.add(batch.size());
+            log.fine("Batch writer " + name + " wrote " + batch.size() + " rows in " + flush.nanos() / 1_000_000 + "ms ("
+                    + Math.round(flush.rowsPerSecond()) + " rows/s)");
+        } else {
+            rowsFailed.add(batch.size());
+            log.warning("Batch writer " + name + " failed to write " + batch.size() + " rows: " + error.getMessage());
+        }
+        try {
+            listener.accept(flush);
+        } catch (RuntimeException e) {
+            log.warning("Batch flush listener failed for writer " + name + ": " + e.getMessage());
+        }
+        synchronized (progress) {
+            processed += batch.size();
+            progress.notifyAll();
+        }
+    }
+}
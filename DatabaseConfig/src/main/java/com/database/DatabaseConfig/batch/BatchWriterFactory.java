@@ -0,0 +1,76 @@
+package com.database.DatabaseConfig.batch;
+
+import com.database.DatabaseConfig.properties.DatabaseConfigurationProperties;
+import lombok.extern.java.Log;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Creates {@link BatchWriter}s on the configured pool with the {@code db.connection.batch} settings.
+ * Writers created here are closed, after writing what is still queued, when the factory is closed.
+ */
+@Log
+public class BatchWriterFactory implements AutoCloseable {
+
+    private final DataSource dataSource;
+    private final DatabaseConfigurationProperties.Batch settings;
+    private final List<BatchWriter<?>> writers = new CopyOnWriteArrayList<>();
+    private final List<Consumer<BatchWriter<?>>> writerListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<BatchFlush>> flushListeners = new CopyOnWriteArrayList<>();
+
+    public BatchWriterFactory(DataSource dataSource, DatabaseConfigurationProperties.Batch settings) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+    }
+
+    /**
+     * Creates a writer that runs {@code sql}, typically an {@code INSERT ... VALUES (?, ...)}, once per row.
+     */
+    public <T> BatchWriter<T> create(String name, String sql, RowBinder<T> binder) {
+        return create(name, dataSource, sql, binder);
+    }
+
+    /**
+     * Creates a writer on another data source than the factory's default pool.
+     */
+    public <T> BatchWriter<T> create(String name, DataSource dataSource, String sql, RowBinder<T> binder) {
+        BatchWriter<T> writer = new BatchWriter<>(name, dataSource, sql, binder, settings, this::onFlush);
+        writers.add(writer);
+        writerListeners.forEach(listener -> listener.accept(writer));
+        return writer;
+    }
+
+    public List<BatchWriter<?>> getWriters() {
+        return List.copyOf(writers);
+    }
+
+    /**
+     * Calls {@code listener} for every writer created so far and every one created later.
+     */
+    public void onWriter(Consumer<BatchWriter<?>> listener) {
+        writerListeners.add(listener);
+        writers.forEach(listener);
+    }
+
+    /**
+     * Calls {@code listener} after every batch written by writers of this factory.
+     */
+    public void onFlush(Consumer<BatchFlush> listener) {
+        flushListeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        for (BatchWriter<?> writer : writers) {
+            log.info("Closing batch writer " + writer.getName() + " with " + writer.getQueueSize() + " queued rows");
+            writer.close();
+        }
+    }
+
+    private void onFlush(BatchFlush flush) {
+        flushListeners.forEach(listener -> listener.accept(flush));
+    }
+}
@@ -0,0 +1,46 @@
+package com.database.DatabaseConfig.batch;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports batch writers as a {@code db.batch.flush} timer per writer and outcome, {@code db.batch.rows}
+ * counters and a {@code db.batch.queue} gauge. Rows per second follow from the rate of
+ * {@code db.batch.rows}.
+ */
+@RequiredArgsConstructor
+public class BatchWriterMetrics implements MeterBinder {
+
+    private final BatchWriterFactory factory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        factory.onWriter(writer -> register(registry, writer));
+        factory.onFlush(flush -> Timer.builder("db.batch.flush")
+                .tags("writer", flush.writer(), "outcome", flush.isSuccess() ? "success" : "failure")
+                .description("Time to write one JDBC batch")
+                .register(registry)
+                .record(flush.nanos(), TimeUnit.NANOSECONDS));
+    }
+
+    private static void register(MeterRegistry registry, BatchWriter<?> writer) {
+        FunctionCounter.builder("db.batch.rows", writer, BatchWriter::getRowsWritten)
+                .tags("writer", writer.getName(), "outcome", "success")
+                .description("Rows written by batch writers")
+                .register(registry);
+        FunctionCounter.builder("db.batch.rows", writer, BatchWriter::getRowsFailed)
+                .tags("writer", writer.getName(), "outcome", "failure")
+                .description("Rows written by batch writers")
+                .register(registry);
+        Gauge.builder("db.batch.queue", writer, BatchWriter::getQueueSize)
+                .tags("writer", writer.getName())
+                .description("Rows waiting in the batch writer queue")
+                .register(registry);
+    }
+}
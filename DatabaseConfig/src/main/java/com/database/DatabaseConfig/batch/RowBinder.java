@@ -0,0 +1,13 @@
+package com.database.DatabaseConfig.batch;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Sets the parameters of the writer's statement for one row.
+ */
+@FunctionalInterface
+public interface RowBinder<T> {
+
+    void bind(PreparedStatement statement, T row) throws SQLException;
+}
@@ -1,17 +1,140 @@
 package com.database.DatabaseConfig.config;
 
+import com.database.DatabaseConfig.batch.BatchWriterFactory;
+import com.database.DatabaseConfig.batch.BatchWriterMetrics;
+import com.database.DatabaseConfig.instrumentation.HikariPoolMetrics;
+import com.database.DatabaseConfig.instrumentation.StatementMetrics;
+import com.database.DatabaseConfig.instrumentation.StatementStatistics;
 import com.database.DatabaseConfig.properties.DataSourceFactory;
+import com.database.DatabaseConfig.pools.NamedDataSources;
+import com.database.DatabaseConfig.pools.NamedPoolsRegistrar;
 import com.database.DatabaseConfig.properties.DatabaseConfigurationProperties;
+import com.database.DatabaseConfig.properties.DatabasePoolsProperties;
+import com.database.DatabaseConfig.routing.ReplicaRoutingDataSource;
+import com.database.DatabaseConfig.startup.DataSourceWarmUp;
+import com.database.DatabaseConfig.startup.DataSourceWarmUpHealthIndicator;
 import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
-@EnableConfigurationProperties(DatabaseConfigurationProperties.class)
+@EnableConfigurationProperties({DatabaseConfigurationProperties.class, DatabasePoolsProperties.class})
+@Import(NamedPoolsRegistrar.class)
 public class DatabaseAutoConfiguration {
     @Bean
-    public HikariDataSource hikariDataSource(DatabaseConfigurationProperties databaseConfigurationProperties) {
-        return DataSourceFactory.createDataSource(databaseConfigurationProperties);
+    @ConditionalOnProperty(prefix = "db.connection.instrumentation", name = "enabled", havingValue = "true")
+    public StatementStatistics statementStatistics(DatabaseConfigurationProperties databaseConfigurationProperties) {
+        DatabaseConfigurationProperties.Instrumentation instrumentation = databaseConfigurationProperties.getInstrumentation();
+        return new StatementStatistics(instrumentation.getSlowQueryThreshold(), instrumentation.getMaxFingerprints());
+    }
+
+    @Bean
+    public HikariDataSource hikariDataSource(DatabaseConfigurationProperties databaseConfigurationProperties,
+                                             ObjectProvider<StatementStatistics> statementStatistics) {
+        return DataSourceFactory.createDataSource(databaseConfigurationProperties, statementStatistics.getIfAvailable());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "db.connection", name = "startup-mode", havingValue = "background")
+    public DataSourceWarmUp dataSourceWarmUp(HikariDataSource hikariDataSource, DatabaseConfigurationProperties databaseConfigurationProperties) {
+        return new DataSourceWarmUp(hikariDataSource, databaseConfigurationProperties);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "db.connection", name = "replicas[0].url")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource hikariDataSource,
+                                                             DatabaseConfigurationProperties databaseConfigurationProperties,
+                                                             ObjectProvider<StatementStatistics> statementStatistics) {
+        return new ReplicaRoutingDataSource(DataSourceFactory.createReplicaDataSources(databaseConfigurationProperties, statementStatistics.getIfAvailable()), hikariDataSource,
+                databaseConfigurationProperties.getReplicaSelection(), databaseConfigurationProperties.getReplicaEjectionTime());
+    }
+
+    /**
+     * Application-facing data source when replicas are configured. Connections are fetched lazily, once
+     * the transaction's read-only flag is known: read-only transactions go to the replicas, all other work
+     * to the primary pool.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "db.connection", name = "replicas[0].url")
+    public DataSource dataSource(HikariDataSource hikariDataSource, ReplicaRoutingDataSource replicaRoutingDataSource,
+                                 DatabaseConfigurationProperties databaseConfigurationProperties) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(hikariDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        dataSource.setDefaultAutoCommit(databaseConfigurationProperties.isAutoCommit());
+        return dataSource;
+    }
+
+    /**
+     * Batch writers write to the primary pool; a routing {@code dataSource} would only add a lazy proxy.
+     */
+    @Bean(destroyMethod = "close")
+    public BatchWriterFactory batchWriterFactory(HikariDataSource hikariDataSource, DatabaseConfigurationProperties databaseConfigurationProperties) {
+        return new BatchWriterFactory(hikariDataSource, databaseConfigurationProperties.getBatch());
+    }
+
+    @Bean
+    public NamedDataSources namedDataSources(DatabasePoolsProperties databasePoolsProperties, BeanFactory beanFactory) {
+        Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+        Map<String, PlatformTransactionManager> transactionManagers = new LinkedHashMap<>();
+        for (String pool : databasePoolsProperties.getPools().keySet()) {
+            dataSources.put(pool, beanFactory.getBean(NamedPoolsRegistrar.dataSourceBeanName(pool), HikariDataSource.class));
+            transactionManagers.put(pool, beanFactory.getBean(NamedPoolsRegistrar.transactionManagerBeanName(pool), PlatformTransactionManager.class));
+        }
+        return new NamedDataSources(dataSources, transactionManagers);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthIndicator")
+    @ConditionalOnProperty(prefix = "db.connection", name = "startup-mode", havingValue = "background")
+    static class WarmUpHealthConfiguration {
+        @Bean
+        public DataSourceWarmUpHealthIndicator dataSourceWarmUpHealthIndicator(DataSourceWarmUp dataSourceWarmUp) {
+            return new DataSourceWarmUpHealthIndicator(dataSourceWarmUp);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "db.connection.instrumentation", name = "enabled", havingValue = "true")
+    static class InstrumentationMetricsConfiguration {
+        @Bean
+        public StatementMetrics statementMetrics(StatementStatistics statementStatistics) {
+            return new StatementMetrics(statementStatistics);
+        }
+
+        @Bean
+        public HikariPoolMetrics hikariPoolMetrics(HikariDataSource hikariDataSource, ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource,
+                                                   NamedDataSources namedDataSources) {
+            List<HikariDataSource> dataSources = new ArrayList<>();
+            dataSources.add(hikariDataSource);
+            replicaRoutingDataSource.ifAvailable(replicas -> dataSources.addAll(replicas.getReplicas()));
+            dataSources.addAll(namedDataSources.getDataSources().values());
+            return new HikariPoolMetrics(dataSources);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class BatchWriterMetricsConfiguration {
+        @Bean
+        public BatchWriterMetrics batchWriterMetrics(BatchWriterFactory batchWriterFactory) {
+            return new BatchWriterMetrics(batchWriterFactory);
+        }
     }
-}
+}
\ No newline at end of file
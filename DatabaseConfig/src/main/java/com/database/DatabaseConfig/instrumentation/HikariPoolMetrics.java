@@ -0,0 +1,28 @@
+package com.database.DatabaseConfig.instrumentation;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Registers Hikari's own Micrometer tracker ({@code hikaricp.connections.active}, {@code .idle},
+ * {@code .pending}, {@code .acquire}, ...) on each pool that does not have a tracker yet.
+ */
+@RequiredArgsConstructor
+public class HikariPoolMetrics implements MeterBinder {
+
+    private final List<HikariDataSource> dataSources;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (HikariDataSource dataSource : dataSources) {
+            if (dataSource.getMetricRegistry() == null && dataSource.getMetricsTrackerFactory() == null) {
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.database.DatabaseConfig.instrumentation;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * Driver-level data source placed underneath a Hikari pool. Physical connections are wrapped so that
+ * every statement execution is timed against its {@link StatementStatistics} entry, update counts are
+ * recorded as rows, and result sets count the rows read. Hikari's own proxies sit on top, so the pool
+ * behaves exactly as without instrumentation.
+ */
+public class InstrumentedDataSource implements DataSource {
+
+    private final DataSource delegate;
+    private final StatementStatistics statistics;
+    private final String pool;
+
+    public InstrumentedDataSource(DataSource delegate, StatementStatistics statistics, String pool) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+        this.pool = pool;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(delegate.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(delegate.getConnection(username, password));
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object objectMethod(Object proxy, Object target, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> target.toString();
+        };
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(proxy, connection, method, args);
+            }
+            Object result = InstrumentedDataSource.invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, new StatementHandler((Statement) result, null));
+                case "prepareStatement" -> proxy(PreparedStatement.class, new StatementHandler((Statement) result, statistics.statement(pool, (String) args[0])));
+                case "prepareCall" -> proxy(CallableStatement.class, new StatementHandler((Statement) result, statistics.statement(pool, (String) args[0])));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final StatementStats prepared;
+        private StatementStats current;
+
+        StatementHandler(Statement statement, StatementStats prepared) {
+            this.statement = statement;
+            this.prepared = prepared;
+            this.current = prepared;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(proxy, statement, method, args);
+            }
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                if (name.equals("addBatch") && prepared == null && args != null && args.length == 1 && current == null) {
+                    current = statistics.statement(pool, (String) args[0]);
+                }
+                Object result = InstrumentedDataSource.invoke(statement, method, args);
+                return name.equals("getResultSet") && result != null ? countRows((ResultSet) result) : result;
+            }
+            StatementStats stats = prepared != null ? prepared
+                    : args != null && args.length > 0 && args[0] instanceof String sql ? statistics.statement(pool, sql)
+                    : current != null ? current : statistics.statement(pool, null);
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = InstrumentedDataSource.invoke(statement, method, args);
+            } finally {
+                statistics.recordExecution(stats, System.nanoTime() - start);
+                if (prepared == null && name.equals("executeBatch")) {
+                    current = null;
+                }
+            }
+            current = stats;
+            if (result instanceof ResultSet resultSet) {
+                return countRows(resultSet);
+            }
+            if (result instanceof Integer count && count > 0) {
+                stats.recordRows(count);
+            } else if (result instanceof Long count && count > 0) {
+                stats.recordRows(count);
+            } else if (result instanceof int[] counts) {
+                stats.recordRows(sum(counts));
+            } else if (result instanceof long[] counts) {
+                stats.recordRows(sum(counts));
+            }
+            return result;
+        }
+
+        private ResultSet countRows(ResultSet resultSet) {
+            return proxy(ResultSet.class, new ResultSetHandler(resultSet, current != null ? current : statistics.statement(pool, null)));
+        }
+
+        private static long sum(int[] counts) {
+            long rows = 0;
+            for (int count : counts) {
+                rows += Math.max(count, 0);
+            }
+            return rows;
+        }
+
+        private static long sum(long[] counts) {
+            long rows = 0;
+            for (long count : counts) {
+                rows += Math.max(count, 0);
+            }
+            return rows;
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet resultSet;
+        private final StatementStats stats;
+        private long rows;
+        private boolean recorded;
+
+        ResultSetHandler(ResultSet resultSet, StatementStats stats) {
+            this.resultSet = resultSet;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(proxy, resultSet, method, args);
+            }
+            String name = method.getName();
+            if (name.equals("next")) {
+                boolean hasRow = resultSet.next();
+                if (hasRow) {
+                    rows++;
+                } else {
+                    record();
+                }
+                return hasRow;
+            }
+            if (name.equals("close")) {
+                record();
+            }
+            return InstrumentedDataSource.invoke(resultSet, method, args);
+        }
+
+        private void record() {
+            if (!recorded) {
+                recorded = true;
+                stats.recordRows(rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.database.DatabaseConfig.instrumentation;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes SQL so that statements differing only in literals share one fingerprint: string and numeric
+ * literals become {@code ?}, comments are dropped, whitespace is collapsed, and {@code IN (...)} lists
+ * and {@code VALUES} rows of any length collapse to {@code (...)}.
+ */
+final class SqlFingerprint {
+
+    private static final Pattern PARAMETER_LISTS = Pattern.compile("(?i)\\b(in|values) ?\\(\\?(?:, \\?)*\\)(?:, \\(\\?(?:, \\?)*\\))*");
+    private static final Set<String> OPERATIONS = Set.of("select", "insert", "update", "delete", "merge", "call", "with");
+
+    private SqlFingerprint() {
+    }
+
+    static String of(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                i++;
+                while (i < length && (sql.charAt(i) != '\'' || (i + 1 < length && sql.charAt(i + 1) == '\''))) {
+                    i += sql.charAt(i) == '\'' ? 2 : 1;
+                }
+                out.append('?');
+                i++;
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                while (i < length && sql.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (Character.isWhitespace(c)) {
+                appendSpace(out);
+                i++;
+            } else if (Character.isDigit(c) && !isIdentifierTail(out)) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                if (c == ',' || c == ')') {
+                    trimSpace(out);
+                }
+                out.append(c);
+                if (c == ',') {
+                    out.append(' ');
+                } else if (c == '(') {
+                    i++;
+                    while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                        i++;
+                    }
+                    continue;
+                }
+                i++;
+            }
+        }
+        trimSpace(out);
+        return PARAMETER_LISTS.matcher(out).replaceAll("$1 (...)");
+    }
+
+    static String operation(String fingerprint) {
+        int end = 0;
+        while (end < fingerprint.length() && Character.isLetter(fingerprint.charAt(end))) {
+            end++;
+        }
+        String keyword = fingerprint.substring(0, end).toLowerCase(Locale.ROOT);
+        return OPERATIONS.contains(keyword) ? keyword : "other";
+    }
+
+    private static boolean isIdentifierTail(StringBuilder out) {
+        if (out.length() == 0) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$' || previous == '"' || previous == '`';
+    }
+
+    private static void appendSpace(StringBuilder out) {
+        if (out.length() > 0 && out.charAt(out.length() - 1) != ' ' && out.charAt(out.length() - 1) != '(') {
+            out.append(' ');
+        }
+    }
+
+    private static void trimSpace(StringBuilder out) {
+        while (out.length() > 0 && out.charAt(out.length() - 1) == ' ') {
+            out.setLength(out.length() - 1);
+        }
+    }
+}
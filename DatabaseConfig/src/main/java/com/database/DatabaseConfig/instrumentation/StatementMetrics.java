@@ -0,0 +1,42 @@
+package com.database.DatabaseConfig.instrumentation;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports {@link StatementStatistics} as {@code db.statement} timers and {@code db.statement.rows} /
+ * {@code db.statement.slow} counters, tagged with pool, operation and statement fingerprint. Meters for
+ * statements first seen after binding are registered as they appear.
+ */
+@RequiredArgsConstructor
+public class StatementMetrics implements MeterBinder {
+
+    private final StatementStatistics statistics;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        statistics.onStatement(stats -> register(registry, stats));
+    }
+
+    private static void register(MeterRegistry registry, StatementStats stats) {
+        Tags tags = Tags.of("pool", stats.getPool(), "operation", stats.getOperation(), "statement", stats.getFingerprint());
+        FunctionTimer.builder("db.statement", stats, StatementStats::getCount, s -> s.getTotalTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .description("JDBC statement executions")
+                .register(registry);
+        FunctionCounter.builder("db.statement.rows", stats, StatementStats::getRows)
+                .tags(tags)
+                .description("Rows returned or affected by JDBC statements")
+                .register(registry);
+        FunctionCounter.builder("db.statement.slow", stats, StatementStats::getSlowCount)
+                .tags(tags)
+                .description("JDBC statement executions over the slow query threshold")
+                .register(registry);
+    }
+}
@@ -0,0 +1,96 @@
+package com.database.DatabaseConfig.instrumentation;
+
+import lombok.extern.java.Log;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Per-statement statistics for instrumented pools, keyed by pool and SQL fingerprint. At most
+ * {@code maxFingerprints} statements are tracked; further fingerprints are counted under {@code other},
+ * so the number of exported meters stays bounded. Executions slower than the threshold are logged with
+ * their fingerprint, never with literal values.
+ */
+@Log
+public class StatementStatistics {
+
+    static final String OTHER = "other";
+
+    private final long slowQueryNanos;
+    private final int maxFingerprints;
+    private final int maxCachedSql;
+    private final ConcurrentMap<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, StatementStats> statements = new ConcurrentHashMap<>();
+    private final List<Consumer<StatementStats>> listeners = new CopyOnWriteArrayList<>();
+
+    public StatementStatistics(long slowQueryThresholdMillis, int maxFingerprints) {
+        this.slowQueryNanos = slowQueryThresholdMillis > 0 ? slowQueryThresholdMillis * 1_000_000 : Long.MAX_VALUE;
+        this.maxFingerprints = maxFingerprints;
+        this.maxCachedSql = maxFingerprints * 8;
+    }
+
+    public Collection<StatementStats> getStatements() {
+        return statements.values();
+    }
+
+    /**
+     * Calls {@code listener} for every statement tracked now and every one added later.
+     */
+    public void onStatement(Consumer<StatementStats> listener) {
+        listeners.add(listener);
+        statements.values().forEach(listener);
+    }
+
+    StatementStats statement(String pool, String sql) {
+        String fingerprint = fingerprint(sql);
+        Key key = new Key(pool, fingerprint);
+        StatementStats stats = statements.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        if (statements.size() >= maxFingerprints) {
+            key = new Key(pool, OTHER);
+            stats = statements.get(key);
+            if (stats != null) {
+                return stats;
+            }
+        }
+        StatementStats created = new StatementStats(pool, key.fingerprint(), key.fingerprint().equals(OTHER) ? OTHER : SqlFingerprint.operation(fingerprint));
+        StatementStats existing = statements.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        listeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+
+    void recordExecution(StatementStats stats, long nanos) {
+        boolean isSlow = nanos >= slowQueryNanos;
+        stats.recordExecution(nanos, isSlow);
+        if (isSlow) {
+            log.warning("Slow query on pool " + stats.getPool() + " took " + nanos / 1_000_000 + "ms: " + stats.getFingerprint());
+        }
+    }
+
+    private String fingerprint(String sql) {
+        if (sql == null) {
+            return OTHER;
+        }
+        String fingerprint = fingerprints.get(sql);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+        fingerprint = SqlFingerprint.of(sql);
+        if (fingerprints.size() < maxCachedSql) {
+            fingerprints.putIfAbsent(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    private record Key(String pool, String fingerprint) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.database.DatabaseConfig.instrumentation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution counters for one statement fingerprint on one pool. Recording only touches
+ * {@link LongAdder}s, so it is cheap enough for every statement.
+ */
+public class StatementStats {
+
+    private final String pool;
+    private final String fingerprint;
+    private final String operation;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder slow = new LongAdder();
+
+    StatementStats(String pool, String fingerprint, String operation) {
+        this.pool = pool;
+        this.fingerprint = fingerprint;
+        this.operation = operation;
+    }
+
+    public String getPool() {
+        return pool;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getTotalTime(TimeUnit unit) {
+        return (double) totalNanos.sum() / unit.toNanos(1);
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getSlowCount() {
+        return slow.sum();
+    }
+
+    void recordExecution(long nanos, boolean isSlow) {
+        count.increment();
+        totalNanos.add(nanos);
+        if (isSlow) {
+            slow.increment();
+        }
+    }
+
+    void recordRows(long rowCount) {
+        rows.add(rowCount);
+    }
+}
@@ -0,0 +1,22 @@
+package com.database.DatabaseConfig.pools;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects the data source or transaction manager of the named pool {@code db.pools.<value>} at an
+ * injection point, e.g. {@code @DatabasePool("reporting") DataSource dataSource}.
+ */
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Qualifier
+public @interface DatabasePool {
+
+    String value();
+}
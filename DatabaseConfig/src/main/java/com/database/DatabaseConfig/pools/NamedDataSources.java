@@ -0,0 +1,63 @@
+package com.database.DatabaseConfig.pools;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Looks up the pools configured under {@code db.pools} by name and creates templates bound to them.
+ * Templates are thread-safe; create them once, e.g. in a repository constructor.
+ */
+public class NamedDataSources {
+
+    private final Map<String, HikariDataSource> dataSources;
+    private final Map<String, PlatformTransactionManager> transactionManagers;
+
+    public NamedDataSources(Map<String, HikariDataSource> dataSources, Map<String, PlatformTransactionManager> transactionManagers) {
+        this.dataSources = Collections.unmodifiableMap(new LinkedHashMap<>(dataSources));
+        this.transactionManagers = Map.copyOf(transactionManagers);
+    }
+
+    public Set<String> getNames() {
+        return dataSources.keySet();
+    }
+
+    public Map<String, HikariDataSource> getDataSources() {
+        return dataSources;
+    }
+
+    public HikariDataSource getDataSource(String pool) {
+        return lookup(dataSources, pool);
+    }
+
+    public PlatformTransactionManager getTransactionManager(String pool) {
+        return lookup(transactionManagers, pool);
+    }
+
+    public JdbcTemplate jdbcTemplate(String pool) {
+        return new JdbcTemplate(getDataSource(pool));
+    }
+
+    public NamedParameterJdbcTemplate namedParameterJdbcTemplate(String pool) {
+        return new NamedParameterJdbcTemplate(getDataSource(pool));
+    }
+
+    public TransactionTemplate transactionTemplate(String pool) {
+        return new TransactionTemplate(getTransactionManager(pool));
+    }
+
+    private <T> T lookup(Map<String, T> beans, String pool) {
+        T bean = beans.get(pool);
+        if (bean == null) {
+            throw new IllegalArgumentException("Unknown database pool '" + pool + "', configured pools: " + dataSources.keySet());
+        }
+        return bean;
+    }
+}
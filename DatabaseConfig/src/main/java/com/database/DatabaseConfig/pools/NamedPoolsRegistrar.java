@@ -0,0 +1,167 @@
+package com.database.DatabaseConfig.pools;
+
+import com.database.DatabaseConfig.instrumentation.StatementStatistics;
+import com.database.DatabaseConfig.properties.DataSourceFactory;
+import com.database.DatabaseConfig.properties.DatabaseConfigurationProperties;
+import com.database.DatabaseConfig.properties.DatabasePoolsProperties;
+import com.database.DatabaseConfig.startup.DataSourceWarmUp;
+import com.database.DatabaseConfig.startup.DataSourceWarmUpHealthIndicator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.support.AutowireCandidateQualifier;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyState;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Registers a {@link HikariDataSource} bean {@code <name>DataSource} and a transaction manager bean
+ * {@code <name>TransactionManager} for every pool under {@code db.pools}. Both carry the pool name as
+ * qualifier and are not default candidates, so injecting a plain {@code DataSource} still gets the
+ * {@code db.connection} pool and Spring Boot still creates its own transaction manager. A pool in
+ * {@code background} startup mode also gets a {@link DataSourceWarmUp} bean {@code <name>DataSourceWarmUp}
+ * and, with actuator present, a health indicator of the same name. Replica, batch and instrumentation
+ * settings only apply to {@code db.connection}; a named pool that sets them fails startup.
+ */
+public class NamedPoolsRegistrar implements ImportBeanDefinitionRegistrar, EnvironmentAware, BeanFactoryAware {
+
+    private static final List<String> UNSUPPORTED_SETTINGS = List.of("replicas", "replica-selection", "replica-ejection-time",
+            "replica-connection-timeout", "batch", "instrumentation");
+
+    private static final String HEALTH_INDICATOR_CLASS = "org.springframework.boot.actuate.health.HealthIndicator";
+
+    private Environment environment;
+    private BeanFactory beanFactory;
+
+    public static String dataSourceBeanName(String pool) {
+        return pool + "DataSource";
+    }
+
+    public static String transactionManagerBeanName(String pool) {
+        return pool + "TransactionManager";
+    }
+
+    public static String warmUpBeanName(String pool) {
+        return pool + "DataSourceWarmUp";
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+        Binder binder = Binder.get(environment);
+        DatabasePoolsProperties pools = binder.bind("db", DatabasePoolsProperties.class).orElseGet(DatabasePoolsProperties::new);
+        DatabaseConfigurationProperties primary = binder.bind("db.connection", DatabaseConfigurationProperties.class)
+                .orElseGet(DatabaseConfigurationProperties::new);
+        pools.getPools().forEach((name, pool) -> {
+            rejectUnsupportedSettings(name);
+            register(registry, name, inherit(name, pool, primary));
+        });
+    }
+
+    private void rejectUnsupportedSettings(String name) {
+        ConfigurationPropertyName poolName = ConfigurationPropertyName.of("db.pools").append(name);
+        for (String setting : UNSUPPORTED_SETTINGS) {
+            ConfigurationPropertyName settingName = poolName.append(setting);
+            for (ConfigurationPropertySource source : ConfigurationPropertySources.get(environment)) {
+                if (source.getConfigurationProperty(settingName) != null
+                        || source.containsDescendantOf(settingName) == ConfigurationPropertyState.PRESENT) {
+                    throw new IllegalStateException("Database pool '" + name + "' sets '" + setting
+                            + "', which is only supported under db.connection");
+                }
+            }
+        }
+    }
+
+    private void register(BeanDefinitionRegistry registry, String name, DatabaseConfigurationProperties pool) {
+        String dataSourceBeanName = dataSourceBeanName(name);
+        String transactionManagerBeanName = transactionManagerBeanName(name);
+        String warmUpBeanName = warmUpBeanName(name);
+        String healthIndicatorBeanName = warmUpBeanName + "HealthIndicator";
+        for (String beanName : new String[]{dataSourceBeanName, transactionManagerBeanName, warmUpBeanName, healthIndicatorBeanName}) {
+            if (registry.containsBeanDefinition(beanName)) {
+                throw new IllegalStateException("Bean name " + beanName + " for database pool '" + name + "' is already in use");
+            }
+        }
+
+        RootBeanDefinition dataSource = new RootBeanDefinition(HikariDataSource.class,
+                () -> DataSourceFactory.createDataSource(pool, beanFactory.getBeanProvider(StatementStatistics.class).getIfAvailable()));
+        dataSource.setDestroyMethodName("close");
+        qualify(dataSource, name);
+        registry.registerBeanDefinition(dataSourceBeanName, dataSource);
+
+        RootBeanDefinition transactionManager = new RootBeanDefinition(JdbcTransactionManager.class,
+                () -> new JdbcTransactionManager(beanFactory.getBean(dataSourceBeanName, DataSource.class)));
+        transactionManager.setDependsOn(dataSourceBeanName);
+        qualify(transactionManager, name);
+        registry.registerBeanDefinition(transactionManagerBeanName, transactionManager);
+
+        if (pool.getStartupMode() != DatabaseConfigurationProperties.StartupMode.BACKGROUND) {
+            return;
+        }
+        RootBeanDefinition warmUp = new RootBeanDefinition(DataSourceWarmUp.class,
+                () -> new DataSourceWarmUp(beanFactory.getBean(dataSourceBeanName, HikariDataSource.class), pool));
+        warmUp.setDependsOn(dataSourceBeanName);
+        warmUp.setDestroyMethodName("close");
+        qualify(warmUp, name);
+        registry.registerBeanDefinition(warmUpBeanName, warmUp);
+
+        if (ClassUtils.isPresent(HEALTH_INDICATOR_CLASS, NamedPoolsRegistrar.class.getClassLoader())) {
+            RootBeanDefinition healthIndicator = new RootBeanDefinition(DataSourceWarmUpHealthIndicator.class);
+            healthIndicator.getConstructorArgumentValues().addGenericArgumentValue(new RuntimeBeanReference(warmUpBeanName));
+            registry.registerBeanDefinition(healthIndicatorBeanName, healthIndicator);
+        }
+    }
+
+    private static void qualify(RootBeanDefinition beanDefinition, String name) {
+        beanDefinition.setDefaultCandidate(false);
+        beanDefinition.addQualifier(new AutowireCandidateQualifier(Qualifier.class, name));
+        beanDefinition.addQualifier(new AutowireCandidateQualifier(DatabasePool.class, name));
+    }
+
+    /**
+     * Pools usually split the load on the same database, so connection settings left empty are taken from
+     * {@code db.connection}; the pool name defaults to the key.
+     */
+    private static DatabaseConfigurationProperties inherit(String name, DatabaseConfigurationProperties pool, DatabaseConfigurationProperties primary) {
+        if (pool.getUrl() == null) {
+            pool.setUrl(primary.getUrl());
+        }
+        if (pool.getUsername() == null) {
+            pool.setUsername(primary.getUsername());
+        }
+        if (pool.getPassword() == null) {
+            pool.setPassword(primary.getPassword());
+        }
+        if (pool.getDriverClassName() == null) {
+            pool.setDriverClassName(primary.getDriverClassName());
+        }
+        if ("default".equals(pool.getPoolName())) {
+            pool.setPoolName(name);
+        }
+        return pool;
+    }
+}
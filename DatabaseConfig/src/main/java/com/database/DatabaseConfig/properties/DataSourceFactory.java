@@ -1,24 +1,43 @@
 package com.database.DatabaseConfig.properties;
 
+import com.database.DatabaseConfig.instrumentation.InstrumentedDataSource;
+import com.database.DatabaseConfig.instrumentation.StatementStatistics;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.util.DriverDataSource;
 import lombok.extern.java.Log;
+import org.springframework.lang.Nullable;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Log
 public class DataSourceFactory {
     public static HikariDataSource createDataSource(DatabaseConfigurationProperties databaseConfigurationProperties) {
+        return createDataSource(databaseConfigurationProperties, null);
+    }
+
+    /**
+     * Creates the primary pool. With {@code statistics}, every physical connection of the pool is
+     * instrumented through an {@link InstrumentedDataSource}.
+     */
+    public static HikariDataSource createDataSource(DatabaseConfigurationProperties databaseConfigurationProperties, @Nullable StatementStatistics statistics) {
         log.info("Initializing HikariCPDataSource for connection pool: "+databaseConfigurationProperties.getPoolName());
         HikariConfig hikariConfig = buildHikariConfig(databaseConfigurationProperties);
-        int maxRetries = databaseConfigurationProperties.getMaxRetries();
-        long retryDelay = databaseConfigurationProperties.getRetryDelay();
+        instrument(hikariConfig, statistics);
+        if (databaseConfigurationProperties.getStartupMode() == DatabaseConfigurationProperties.StartupMode.BACKGROUND) {
+            HikariDataSource dataSource = new HikariDataSource();
+            hikariConfig.copyStateTo(dataSource);
+            return dataSource;
+        }
         try {
             return new HikariDataSource(hikariConfig);
         }catch (Exception e) {
             log.info("Failed to initialize HikariCPDataSource for connection pool: "+databaseConfigurationProperties.getPoolName());
             try {
-                return getConnectionWithRetry(maxRetries, retryDelay, hikariConfig);
+                return getConnectionWithRetry(databaseConfigurationProperties, hikariConfig);
             } catch (Exception ex) {
                 throw new RuntimeException(ex);
             }
@@ -26,15 +45,63 @@ public class DataSourceFactory {
         }
     }
 
-    private static HikariDataSource getConnectionWithRetry(int maxRetries, long retryDelay, HikariConfig hikariConfig) throws SQLException {
+    /**
+     * Creates one read-only pool per configured replica. Replica pools start without waiting for a
+     * connection, so an unreachable replica does not fail startup; it is ejected on first use instead.
+     */
+    public static List<HikariDataSource> createReplicaDataSources(DatabaseConfigurationProperties databaseConfigurationProperties,
+                                                                 @Nullable StatementStatistics statistics) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<DatabaseConfigurationProperties.Replica> definitions = databaseConfigurationProperties.getReplicas();
+        for (int i = 0; i < definitions.size(); i++) {
+            DatabaseConfigurationProperties.Replica replica = definitions.get(i);
+            HikariConfig hikariConfig = buildHikariConfig(databaseConfigurationProperties);
+            hikariConfig.setJdbcUrl(replica.getUrl());
+            if (replica.getUsername() != null) {
+                hikariConfig.setUsername(replica.getUsername());
+            }
+            if (replica.getPassword() != null) {
+                hikariConfig.setPassword(replica.getPassword());
+            }
+            if (replica.getMaximumPoolSize() != null) {
+                hikariConfig.setMaximumPoolSize(replica.getMaximumPoolSize());
+            }
+            if (replica.getMinimumIdle() != null) {
+                hikariConfig.setMinimumIdle(replica.getMinimumIdle());
+            }
+            hikariConfig.setConnectionTimeout(replica.getConnectionTimeout() != null
+                    ? replica.getConnectionTimeout() : databaseConfigurationProperties.getReplicaConnectionTimeout());
+            hikariConfig.setPoolName(databaseConfigurationProperties.getPoolName() + "-replica-" + i);
+            hikariConfig.setReadOnly(true);
+            hikariConfig.setInitializationFailTimeout(-1);
+            instrument(hikariConfig, statistics);
+            log.info("Initializing HikariCPDataSource for replica pool: " + hikariConfig.getPoolName());
+            replicas.add(new HikariDataSource(hikariConfig));
+        }
+        return replicas;
+    }
+
+    /**
+     * Delay before retry {@code attempt} (0-based): {@code retryDelay} doubled per attempt up to
+     * {@code maxRetryDelay}, with jitter over the upper half so that instances restarted together do not
+     * reconnect in lockstep.
+     */
+    public static long retryDelay(DatabaseConfigurationProperties databaseConfigurationProperties, int attempt) {
+        long base = Math.max(1, databaseConfigurationProperties.getRetryDelay());
+        long max = Math.max(base, databaseConfigurationProperties.getMaxRetryDelay());
+        long delay = attempt >= 62 || base > (max >> Math.min(attempt, 62)) ? max : base << attempt;
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
 
+    private static HikariDataSource getConnectionWithRetry(DatabaseConfigurationProperties databaseConfigurationProperties, HikariConfig hikariConfig) throws SQLException {
+        int maxRetries = databaseConfigurationProperties.getMaxRetries();
         for (int i = 0; i < maxRetries; i++) {
             try {
                 return new HikariDataSource(hikariConfig);
             }catch (Exception e) {
-                if (i < maxRetries) {
+                if (i < maxRetries - 1) {
                     try {
-                        Thread.sleep(retryDelay);
+                        Thread.sleep(retryDelay(databaseConfigurationProperties, i));
                     } catch (InterruptedException ex) {
                         Thread.currentThread().interrupt();
                         throw  new SQLException("retry process interrupted", ex);
@@ -45,6 +112,15 @@ public class DataSourceFactory {
         throw new SQLException("Could not connect to database after " + maxRetries + " retries");
     }
 
+    private static void instrument(HikariConfig hikariConfig, @Nullable StatementStatistics statistics) {
+        if (statistics == null) {
+            return;
+        }
+        DriverDataSource driverDataSource = new DriverDataSource(hikariConfig.getJdbcUrl(), hikariConfig.getDriverClassName(),
+                hikariConfig.getDataSourceProperties(), hikariConfig.getUsername(), hikariConfig.getPassword());
+        hikariConfig.setDataSource(new InstrumentedDataSource(driverDataSource, statistics, hikariConfig.getPoolName()));
+    }
+
     private static HikariConfig buildHikariConfig(DatabaseConfigurationProperties databaseConfigurationProperties) {
         HikariConfig hikariConfig = new HikariConfig();
         hikariConfig.setJdbcUrl(databaseConfigurationProperties.getUrl());
@@ -65,6 +141,24 @@ public class DataSourceFactory {
         hikariConfig.setValidationTimeout(databaseConfigurationProperties.getValidationTimeout());
         hikariConfig.setLeakDetectionThreshold(databaseConfigurationProperties.getLeakDetectionThreshold());
         hikariConfig.setReadOnly(databaseConfigurationProperties.isReadOnly());
+        if (databaseConfigurationProperties.isRewriteBatchedStatements()) {
+            enableBatchRewrite(hikariConfig);
+        }
         return hikariConfig;
     }
+
+    /**
+     * Lets the driver send a JDBC batch of single-row inserts as multi-row inserts. Only MySQL, MariaDB
+     * and PostgreSQL drivers have such a setting; other drivers are left unchanged.
+     */
+    private static void enableBatchRewrite(HikariConfig hikariConfig) {
+        String url = hikariConfig.getJdbcUrl() != null ? hikariConfig.getJdbcUrl() : "";
+        if (url.startsWith("jdbc:mysql:") || url.startsWith("jdbc:mariadb:")) {
+            hikariConfig.addDataSourceProperty("rewriteBatchedStatements", "true");
+        } else if (url.startsWith("jdbc:postgresql:")) {
+            hikariConfig.addDataSourceProperty("reWriteBatchedInserts", "true");
+        } else {
+            log.warning("rewrite-batched-statements is not supported for " + url + ", ignoring it for pool " + hikariConfig.getPoolName());
+        }
+    }
 }
@@ -3,6 +3,9 @@ package com.database.DatabaseConfig.properties;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Data
 @ConfigurationProperties(prefix = "db.connection")
 public class DatabaseConfigurationProperties {
@@ -25,5 +28,56 @@ public class DatabaseConfigurationProperties {
     private long leakDetectionThreshold = 2000;
     private int maxRetries = 3;
     private long retryDelay = 3000;
+    private long maxRetryDelay = 60000;
+    private StartupMode startupMode = StartupMode.BLOCKING;
     private boolean readOnly = false;
+    private boolean rewriteBatchedStatements = false;
+    private List<Replica> replicas = new ArrayList<>();
+    private ReplicaSelection replicaSelection = ReplicaSelection.LEAST_BUSY;
+    private long replicaEjectionTime = 30000;
+    private int replicaConnectionTimeout = 2000;
+    private Instrumentation instrumentation = new Instrumentation();
+    private Batch batch = new Batch();
+
+    /**
+     * A read replica with its own pool. Settings left empty are taken from the primary, except
+     * {@code connectionTimeout}, which defaults to {@code replicaConnectionTimeout}.
+     */
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private Integer maximumPoolSize;
+        private Integer minimumIdle;
+        private Integer connectionTimeout;
+    }
+
+    @Data
+    public static class Instrumentation {
+        private boolean enabled = false;
+        private long slowQueryThreshold = 1000;
+        private int maxFingerprints = 200;
+    }
+
+    /**
+     * Settings for writers created by the {@code BatchWriterFactory}.
+     */
+    @Data
+    public static class Batch {
+        private int size = 500;
+        private long flushInterval = 100;
+        private int queueCapacity = 10000;
+        private long offerTimeout = 5000;
+    }
+
+    public enum StartupMode {
+        BLOCKING,
+        BACKGROUND
+    }
+
+    public enum ReplicaSelection {
+        LEAST_BUSY,
+        ROUND_ROBIN
+    }
 }
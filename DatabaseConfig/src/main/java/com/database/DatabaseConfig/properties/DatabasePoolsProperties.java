@@ -0,0 +1,16 @@
+package com.database.DatabaseConfig.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Named pools under {@code db.pools.<name>}, each with the pool settings of {@code db.connection}.
+ */
+@Data
+@ConfigurationProperties(prefix = "db")
+public class DatabasePoolsProperties {
+    private Map<String, DatabaseConfigurationProperties> pools = new LinkedHashMap<>();
+}
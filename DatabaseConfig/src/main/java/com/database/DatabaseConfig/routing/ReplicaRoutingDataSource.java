@@ -0,0 +1,154 @@
+package com.database.DatabaseConfig.routing;
+
+import com.database.DatabaseConfig.properties.DatabaseConfigurationProperties.ReplicaSelection;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.java.Log;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out connections from a set of replica pools. Replicas are tried least-busy first (fewest active
+ * connections) or in round-robin order. A replica whose pool times out because connecting or validating
+ * failed is ejected for {@code ejectionTimeMillis}. Hikari passes that failure as the cause of its timeout
+ * exception; a timeout without a cause only means the pool is busy, so the next replica is tried without
+ * ejecting it. When every replica is ejected or failing, connections come from the primary.
+ * A replica pool that holds no connections, at startup or after its connections died, is probed by one
+ * caller at a time; the others skip it instead of all waiting out its connection timeout.
+ */
+@Log
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final List<Replica> replicas;
+    private final DataSource primary;
+    private final ReplicaSelection selection;
+    private final long ejectionTimeMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(List<HikariDataSource> replicas, DataSource primary, ReplicaSelection selection, long ejectionTimeMillis) {
+        List<Replica> entries = new ArrayList<>(replicas.size());
+        for (HikariDataSource replica : replicas) {
+            entries.add(new Replica(replica));
+        }
+        this.replicas = List.copyOf(entries);
+        this.primary = primary;
+        this.selection = selection;
+        this.ejectionTimeMillis = ejectionTimeMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long now = System.currentTimeMillis();
+        for (Replica replica : candidates(now)) {
+            boolean probe = replica.isEmpty();
+            if (probe && !replica.probing.compareAndSet(false, true)) {
+                continue;
+            }
+            if (probe && replica.isEjected(System.currentTimeMillis())) {
+                replica.probing.set(false);
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                if (e.getCause() == null) {
+                    log.fine("Replica pool " + replica.dataSource.getPoolName() + " is saturated, trying the next one: " + e.getMessage());
+                    continue;
+                }
+                replica.ejectedUntil = System.currentTimeMillis() + ejectionTimeMillis;
+                log.warning("Ejecting replica pool " + replica.dataSource.getPoolName() + " for " + ejectionTimeMillis + "ms: " + e.getMessage());
+            } finally {
+                if (probe) {
+                    replica.probing.set(false);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the credentials of their pool");
+    }
+
+    public List<HikariDataSource> getReplicas() {
+        return replicas.stream().map(replica -> replica.dataSource).toList();
+    }
+
+    public boolean isEjected(HikariDataSource replica) {
+        long now = System.currentTimeMillis();
+        return replicas.stream().anyMatch(entry -> entry.dataSource == replica && entry.isEjected(now));
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    private List<Replica> candidates(long now) {
+        List<Replica> available = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (!replica.isEjected(now)) {
+                available.add(replica);
+            }
+        }
+        if (available.size() < 2) {
+            return available;
+        }
+        if (selection == ReplicaSelection.ROUND_ROBIN) {
+            int offset = Math.floorMod(next.getAndIncrement(), available.size());
+            List<Replica> ordered = new ArrayList<>(available.subList(offset, available.size()));
+            ordered.addAll(available.subList(0, offset));
+            return ordered;
+        }
+        int[] busy = new int[available.size()];
+        Integer[] order = new Integer[available.size()];
+        for (int i = 0; i < busy.length; i++) {
+            busy[i] = available.get(i).busyConnections();
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> busy[i]));
+        List<Replica> ordered = new ArrayList<>(order.length);
+        for (Integer index : order) {
+            ordered.add(available.get(index));
+        }
+        return ordered;
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private final AtomicBoolean probing = new AtomicBoolean();
+        private volatile long ejectedUntil;
+
+        Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        boolean isEjected(long now) {
+            return ejectedUntil > now;
+        }
+
+        boolean isEmpty() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null || pool.getTotalConnections() == 0;
+        }
+
+        int busyConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() + pool.getThreadsAwaitingConnection() : 0;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.database.DatabaseConfig.startup;
+
+import com.database.DatabaseConfig.properties.DataSourceFactory;
+import com.database.DatabaseConfig.properties.DatabaseConfigurationProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.java.Log;
+
+import java.sql.Connection;
+
+/**
+ * Starts a pool created in {@code BACKGROUND} startup mode off the startup thread. The first connection
+ * is retried with exponential backoff and jitter until it succeeds; then the warm-up waits for the pool
+ * to hold {@code minimumIdle} connections before reporting ready. It checks every 50ms for up to
+ * {@code connectionTimeout}, then logs a warning and keeps checking with backoff.
+ */
+@Log
+public class DataSourceWarmUp implements AutoCloseable {
+
+    public enum State {
+        CONNECTING,
+        WARMING_UP,
+        READY
+    }
+
+    private final HikariDataSource dataSource;
+    private final DatabaseConfigurationProperties databaseConfigurationProperties;
+    private final Thread thread;
+    private volatile State state = State.CONNECTING;
+    private volatile int attempts;
+    private volatile String lastError;
+
+    public DataSourceWarmUp(HikariDataSource dataSource, DatabaseConfigurationProperties databaseConfigurationProperties) {
+        this.dataSource = dataSource;
+        this.databaseConfigurationProperties = databaseConfigurationProperties;
+        this.thread = new Thread(this::run, "db-warmup-" + dataSource.getPoolName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public String getPoolName() {
+        return dataSource.getPoolName();
+    }
+
+    public int getTotalConnections() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool != null ? pool.getTotalConnections() : 0;
+    }
+
+    public int getMinimumIdle() {
+        return dataSource.getMinimumIdle();
+    }
+
+    @Override
+    public void close() {
+        thread.interrupt();
+    }
+
+    private void run() {
+        long start = System.currentTimeMillis();
+        try {
+            connect();
+            state = State.WARMING_UP;
+            awaitMinimumIdle();
+            state = State.READY;
+            log.info("Connection pool " + dataSource.getPoolName() + " ready after " + (System.currentTimeMillis() - start) + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void connect() throws InterruptedException {
+        while (true) {
+            try (Connection ignored = dataSource.getConnection()) {
+                return;
+            } catch (Exception e) {
+                if (dataSource.isClosed()) {
+                    throw new InterruptedException("data source closed");
+                }
+                long delay = DataSourceFactory.retryDelay(databaseConfigurationProperties, attempts);
+                attempts++;
+                lastError = e.getMessage();
+                log.info("Failed to connect connection pool " + dataSource.getPoolName() + " (attempt " + attempts + "), retrying in " + delay + "ms: " + e.getMessage());
+                Thread.sleep(delay);
+            }
+        }
+    }
+
+    private void awaitMinimumIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + dataSource.getConnectionTimeout();
+        int checks = 0;
+        while (getTotalConnections() < dataSource.getMinimumIdle()) {
+            if (dataSource.isClosed()) {
+                throw new InterruptedException("data source closed");
+            }
+            if (System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+                continue;
+            }
+            if (checks == 0) {
+                log.warning("Connection pool " + dataSource.getPoolName() + " holds " + getTotalConnections() + " of " + dataSource.getMinimumIdle()
+                        + " minimum idle connections after " + dataSource.getConnectionTimeout() + "ms, still waiting");
+            }
+            Thread.sleep(DataSourceFactory.retryDelay(databaseConfigurationProperties, checks++));
+        }
+    }
+}
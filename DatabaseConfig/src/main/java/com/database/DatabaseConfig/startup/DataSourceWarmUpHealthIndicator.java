@@ -0,0 +1,29 @@
+package com.database.DatabaseConfig.startup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Reports {@code OUT_OF_SERVICE} until the background warm-up has connected and filled the pool, so it
+ * can gate a readiness group without failing liveness.
+ */
+@RequiredArgsConstructor
+public class DataSourceWarmUpHealthIndicator implements HealthIndicator {
+
+    private final DataSourceWarmUp warmUp;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = warmUp.isReady() ? Health.up() : Health.outOfService();
+        builder.withDetail("pool", warmUp.getPoolName())
+                .withDetail("state", warmUp.getState())
+                .withDetail("attempts", warmUp.getAttempts())
+                .withDetail("connections", warmUp.getTotalConnections())
+                .withDetail("minimumIdle", warmUp.getMinimumIdle());
+        if (!warmUp.isReady() && warmUp.getLastError() != null) {
+            builder.withDetail("lastError", warmUp.getLastError());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.http_client_library.benchmark;
+
+import com.example.http_client_library.config.HttpClientAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+
+final class BenchmarkClients {
+
+    private BenchmarkClients() {
+    }
+
+    /**
+     * Starts a context holding only {@link HttpClientAutoConfiguration}, bound to the given
+     * {@code http.client.*} properties, so benchmarks exercise exactly the beans applications get.
+     */
+    static AnnotationConfigApplicationContext context(Map<String, Object> properties) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+        context.register(HttpClientAutoConfiguration.class);
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * Sends a GET and drains the body. Returns the status code, or {@code -1} when no response was
+     * received (for example when a circuit breaker rejected the call).
+     */
+    static int get(RestTemplate restTemplate, URI uri) {
+        try {
+            return restTemplate.execute(uri, HttpMethod.GET, null, response -> {
+                try (InputStream body = response.getBody()) {
+                    body.transferTo(OutputStream.nullOutputStream());
+                }
+                return response.getStatusCode().value();
+            });
+        } catch (HttpStatusCodeException e) {
+            return e.getStatusCode().value();
+        } catch (RestClientException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.http_client_library.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GETs against a stub server that fails a share of requests with 503, comparing no resilience policy,
+ * budgeted retries and the circuit breaker. Retry delays are shortened so the numbers show the cost of
+ * the policies rather than the configured back-off.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ResilienceBenchmark {
+
+    @Param({"0", "0.05", "0.25"})
+    private double errorRate;
+
+    @Param({"none", "retry", "circuit-breaker"})
+    private String policy;
+
+    private StubServer server;
+    private AnnotationConfigApplicationContext context;
+    private RestTemplate restTemplate;
+    private URI uri;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new StubServer(1, errorRate, 1024);
+        uri = server.uri();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("http.client.enable-retry", policy.equals("retry"));
+        properties.put("http.client.retry-delay", "1ms");
+        properties.put("http.client.max-retry-delay", "5ms");
+        properties.put("http.client.enable-circuit-breaker", policy.equals("circuit-breaker"));
+        context = BenchmarkClients.context(properties);
+        restTemplate = context.getBean(RestTemplate.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        server.close();
+    }
+
+    @Benchmark
+    public int get() {
+        return BenchmarkClients.get(restTemplate, uri);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.http_client_library.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GETs through the auto-configured {@link RestTemplate} against a healthy stub server, for different
+ * payload sizes, server latencies and connection pool sizes. Run with several thread counts to see where
+ * the pool becomes the bottleneck; {@code SampleTime} reports latency percentiles.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RestTemplateBenchmark {
+
+    @Param({"256", "65536"})
+    private int payloadBytes;
+
+    @Param({"0", "5"})
+    private long latencyMillis;
+
+    @Param({"8", "64"})
+    private int maxConnections;
+
+    private StubServer server;
+    private AnnotationConfigApplicationContext context;
+    private RestTemplate restTemplate;
+    private URI uri;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new StubServer(latencyMillis, 0, payloadBytes);
+        uri = server.uri();
+        context = BenchmarkClients.context(Map.of(
+                "http.client.max-connections", maxConnections,
+                "http.client.max-connections-per-route", maxConnections));
+        restTemplate = context.getBean(RestTemplate.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        server.close();
+    }
+
+    @Benchmark
+    public int get() {
+        return BenchmarkClients.get(restTemplate, uri);
+    }
+}
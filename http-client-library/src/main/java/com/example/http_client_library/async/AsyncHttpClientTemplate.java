@@ -0,0 +1,66 @@
+package com.example.http_client_library.async;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * {@link CompletableFuture} facade over the shared {@link CloseableHttpAsyncClient}. Calls do not hold
+ * a thread while in flight, and over HTTP/2 many of them share one connection. Cancelling the returned
+ * future cancels the exchange.
+ */
+@RequiredArgsConstructor
+public class AsyncHttpClientTemplate {
+
+    private final CloseableHttpAsyncClient httpAsyncClient;
+
+    public CompletableFuture<SimpleHttpResponse> execute(SimpleHttpRequest request) {
+        CompletableFuture<SimpleHttpResponse> result = new CompletableFuture<>();
+        Future<SimpleHttpResponse> exchange = httpAsyncClient.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                result.complete(response);
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                result.completeExceptionally(ex);
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+        result.whenComplete((response, ex) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    public CompletableFuture<SimpleHttpResponse> get(URI uri) {
+        return execute(SimpleRequestBuilder.get(uri).build());
+    }
+
+    public CompletableFuture<SimpleHttpResponse> post(URI uri, byte[] body, ContentType contentType) {
+        return execute(SimpleRequestBuilder.post(uri).setBody(body, contentType).build());
+    }
+
+    public CompletableFuture<SimpleHttpResponse> put(URI uri, byte[] body, ContentType contentType) {
+        return execute(SimpleRequestBuilder.put(uri).setBody(body, contentType).build());
+    }
+
+    public CompletableFuture<SimpleHttpResponse> delete(URI uri) {
+        return execute(SimpleRequestBuilder.delete(uri).build());
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.http_client_library.cache;
+
+import org.apache.hc.client5.http.cache.HttpCacheCASOperation;
+import org.apache.hc.client5.http.cache.HttpCacheEntry;
+import org.apache.hc.client5.http.cache.HttpCacheStorage;
+import org.apache.hc.client5.http.cache.Resource;
+import org.apache.hc.client5.http.cache.ResourceIOException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LRU cache storage bounded by entry count and by the bytes held in each tier. Heap bodies count against
+ * {@code maxHeapBytes} and memory-mapped bodies against {@code maxDiskBytes}; the least recently used
+ * entries are evicted until both fit. Evicted heap bodies are left to the garbage collector because
+ * entries can share a body; evicted disk bodies have their file removed.
+ */
+public class BoundedHttpCacheStorage implements HttpCacheStorage {
+
+    private final int maxEntries;
+    private final long maxHeapBytes;
+    private final long maxDiskBytes;
+    private final TieredResourceFactory resourceFactory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, HttpCacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long heapBytes;
+    private long diskBytes;
+
+    public BoundedHttpCacheStorage(int maxEntries, long maxHeapBytes, long maxDiskBytes, TieredResourceFactory resourceFactory) {
+        this.maxEntries = maxEntries;
+        this.maxHeapBytes = maxHeapBytes;
+        this.maxDiskBytes = maxDiskBytes;
+        this.resourceFactory = resourceFactory;
+    }
+
+    @Override
+    public void putEntry(String key, HttpCacheEntry entry) {
+        lock.lock();
+        try {
+            store(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public HttpCacheEntry getEntry(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void removeEntry(String key) {
+        lock.lock();
+        try {
+            release(entries.remove(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateEntry(String key, HttpCacheCASOperation casOperation) throws ResourceIOException {
+        lock.lock();
+        try {
+            store(key, casOperation.execute(entries.get(key)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Map<String, HttpCacheEntry> getEntries(Collection<String> keys) {
+        Map<String, HttpCacheEntry> result = new HashMap<>();
+        lock.lock();
+        try {
+            for (String key : keys) {
+                HttpCacheEntry entry = entries.get(key);
+                if (entry != null) {
+                    result.put(key, entry);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+
+    public TieredResourceFactory getResourceFactory() {
+        return resourceFactory;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHeapBytes() {
+        lock.lock();
+        try {
+            return heapBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDiskBytes() {
+        lock.lock();
+        try {
+            return diskBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void store(String key, HttpCacheEntry entry) {
+        if (entry == null) {
+            release(entries.remove(key));
+            return;
+        }
+        HttpCacheEntry previous = entries.put(key, entry);
+        if (previous != entry) {
+            account(entry.getResource(), 1);
+            if (previous != null && previous.getResource() == entry.getResource()) {
+                account(previous.getResource(), -1);
+            } else {
+                release(previous);
+            }
+        }
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, HttpCacheEntry>> eldest = entries.entrySet().iterator();
+        while (eldest.hasNext() && (entries.size() > maxEntries || heapBytes > maxHeapBytes || diskBytes > maxDiskBytes)) {
+            HttpCacheEntry entry = eldest.next().getValue();
+            eldest.remove();
+            release(entry);
+        }
+    }
+
+    private void release(HttpCacheEntry entry) {
+        if (entry == null) {
+            return;
+        }
+        Resource resource = entry.getResource();
+        account(resource, -1);
+        if (resource != null && resourceFactory.isOnDisk(resource)) {
+            resource.dispose();
+        }
+    }
+
+    private void account(Resource resource, int sign) {
+        if (resource == null) {
+            return;
+        }
+        if (resourceFactory.isOnDisk(resource)) {
+            diskBytes += sign * resource.length();
+        } else {
+            heapBytes += sign * resource.length();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.http_client_library.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.cache.HttpCacheContext;
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpException;
+
+import java.io.IOException;
+
+/**
+ * Records the cache status of each exchange once the whole chain, including retries, has completed.
+ */
+@RequiredArgsConstructor
+public class CacheStatisticsExecHandler implements ExecChainHandler {
+
+    public static final String NAME = "cache-statistics";
+
+    private final ResponseCacheStatistics statistics;
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain) throws IOException, HttpException {
+        ClassicHttpResponse response = chain.proceed(request, scope);
+        if (scope.clientContext instanceof HttpCacheContext cacheContext) {
+            statistics.record(cacheContext.getCacheResponseStatus());
+        }
+        return response;
+    }
+}
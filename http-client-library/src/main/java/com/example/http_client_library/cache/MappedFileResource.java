@@ -0,0 +1,88 @@
+package com.example.http_client_library.cache;
+
+import org.apache.hc.client5.http.cache.Resource;
+import org.apache.hc.client5.http.cache.ResourceIOException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Cached response body stored in a file and read through a read-only memory mapping, so large bodies
+ * live in the page cache instead of the Java heap. Cache entries may share a resource, so disposing only
+ * unlinks the file; the mapping stays readable until the resource is garbage collected.
+ */
+class MappedFileResource extends Resource {
+
+    private final Path file;
+    private final long length;
+    private final transient MappedByteBuffer buffer;
+
+    MappedFileResource(Path file) throws IOException {
+        this.file = file;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            this.length = channel.size();
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        }
+    }
+
+    @Override
+    public byte[] get() throws ResourceIOException {
+        ByteBuffer view = view();
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public InputStream getInputStream() throws ResourceIOException {
+        ByteBuffer view = view();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return view.hasRemaining() ? view.get() & 0xff : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int count) {
+                if (!view.hasRemaining()) {
+                    return -1;
+                }
+                int read = Math.min(count, view.remaining());
+                view.get(bytes, offset, read);
+                return read;
+            }
+
+            @Override
+            public int available() {
+                return view.remaining();
+            }
+        };
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public void dispose() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // the cache directory is cleaned up on the next start
+        }
+    }
+
+    private ByteBuffer view() throws ResourceIOException {
+        if (buffer == null) {
+            throw new ResourceIOException("Cached response body is not mapped: " + file);
+        }
+        return buffer.duplicate();
+    }
+}
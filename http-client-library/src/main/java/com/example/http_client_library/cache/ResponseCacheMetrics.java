@@ -0,0 +1,47 @@
+package com.example.http_client_library.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.cache.CacheResponseStatus;
+
+/**
+ * Publishes {@code http.client.cache.requests{result}} counters and the entry count and bytes held in
+ * each tier of the response cache.
+ */
+@RequiredArgsConstructor
+public class ResponseCacheMetrics implements MeterBinder {
+
+    private final ResponseCacheStatistics statistics;
+    private final BoundedHttpCacheStorage storage;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CacheResponseStatus status : CacheResponseStatus.values()) {
+            FunctionCounter.builder("http.client.cache.requests", statistics, s -> s.getCount(status))
+                    .tag("result", result(status))
+                    .register(registry);
+        }
+        Gauge.builder("http.client.cache.entries", storage, BoundedHttpCacheStorage::size).register(registry);
+        Gauge.builder("http.client.cache.size", storage, BoundedHttpCacheStorage::getHeapBytes)
+                .tag("tier", "heap")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("http.client.cache.size", storage, BoundedHttpCacheStorage::getDiskBytes)
+                .tag("tier", "disk")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private static String result(CacheResponseStatus status) {
+        return switch (status) {
+            case CACHE_HIT -> "hit";
+            case CACHE_MISS -> "miss";
+            case VALIDATED -> "revalidated";
+            case CACHE_MODULE_RESPONSE -> "generated";
+            case FAILURE -> "failure";
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.http_client_library.cache;
+
+import org.apache.hc.client5.http.cache.CacheResponseStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how each request was served by the response cache: {@code CACHE_HIT} from a fresh entry,
+ * {@code VALIDATED} after a successful conditional revalidation, {@code CACHE_MISS} from the origin,
+ * {@code CACHE_MODULE_RESPONSE} generated by the cache itself and {@code FAILURE} when the cache failed.
+ */
+public class ResponseCacheStatistics {
+
+    private final Map<CacheResponseStatus, LongAdder> counts = new EnumMap<>(CacheResponseStatus.class);
+
+    public ResponseCacheStatistics() {
+        for (CacheResponseStatus status : CacheResponseStatus.values()) {
+            counts.put(status, new LongAdder());
+        }
+    }
+
+    public void record(CacheResponseStatus status) {
+        if (status != null) {
+            counts.get(status).increment();
+        }
+    }
+
+    public long getCount(CacheResponseStatus status) {
+        return counts.get(status).sum();
+    }
+
+    public long getHitCount() {
+        return getCount(CacheResponseStatus.CACHE_HIT);
+    }
+
+    public long getMissCount() {
+        return getCount(CacheResponseStatus.CACHE_MISS);
+    }
+
+    public long getValidatedCount() {
+        return getCount(CacheResponseStatus.VALIDATED);
+    }
+}
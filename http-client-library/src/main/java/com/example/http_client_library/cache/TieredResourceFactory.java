@@ -0,0 +1,91 @@
+package com.example.http_client_library.cache;
+
+import org.apache.hc.client5.http.cache.Resource;
+import org.apache.hc.client5.http.cache.ResourceFactory;
+import org.apache.hc.client5.http.cache.ResourceIOException;
+import org.apache.hc.client5.http.impl.cache.HeapResource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Keeps small response bodies on the heap and writes bodies of at least {@code diskThreshold} bytes to
+ * memory-mapped files in {@code directory}. Without a directory every body stays on the heap. Files left
+ * over from a previous run are deleted on startup.
+ */
+public class TieredResourceFactory implements ResourceFactory {
+
+    private final Path directory;
+    private final long diskThreshold;
+
+    public TieredResourceFactory(@Nullable Path directory, long diskThreshold) {
+        this.directory = directory;
+        this.diskThreshold = diskThreshold;
+        if (directory != null) {
+            clean(directory);
+        }
+    }
+
+    @Override
+    public Resource generate(String requestId, byte[] content) throws ResourceIOException {
+        return generate(requestId, content, 0, content != null ? content.length : 0);
+    }
+
+    @Override
+    public Resource generate(String requestId, byte[] content, int off, int len) throws ResourceIOException {
+        if (content == null) {
+            return new HeapResource(new byte[0]);
+        }
+        if (directory == null || len < diskThreshold) {
+            return new HeapResource(Arrays.copyOfRange(content, off, off + len));
+        }
+        try {
+            Path file = Files.createTempFile(directory, "body-", ".cache");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                out.write(content, off, len);
+            }
+            return new MappedFileResource(file);
+        } catch (IOException e) {
+            throw new ResourceIOException("Failed to store cached response body for " + requestId, e);
+        }
+    }
+
+    @Override
+    public Resource copy(String requestId, Resource resource) throws ResourceIOException {
+        if (resource instanceof HeapResource || directory == null || resource.length() < diskThreshold) {
+            return new HeapResource(resource.get());
+        }
+        try (InputStream in = resource.getInputStream()) {
+            Path file = Files.createTempFile(directory, "body-", ".cache");
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            return new MappedFileResource(file);
+        } catch (IOException e) {
+            throw new ResourceIOException("Failed to copy cached response body for " + requestId, e);
+        }
+    }
+
+    boolean isOnDisk(Resource resource) {
+        return resource instanceof MappedFileResource;
+    }
+
+    private static void clean(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files.filter(path -> path.getFileName().toString().endsWith(".cache"))::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prepare HTTP cache directory " + directory, e);
+        }
+    }
+}
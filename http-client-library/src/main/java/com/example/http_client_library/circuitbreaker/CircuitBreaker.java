@@ -0,0 +1,159 @@
+package com.example.http_client_library.circuitbreaker;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker for one route. Outcomes are counted in one-second buckets over a sliding window
+ * using atomic counters; the breaker opens when the failure or slow-call rate crosses its threshold,
+ * fails calls fast while open, then lets a limited number of probe calls through (half-open) and
+ * closes again only if they all succeed.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final CircuitBreakerConfig config;
+    private final int windowSeconds;
+    private final AtomicLongArray bucketSecond;
+    private final AtomicLongArray calls;
+    private final AtomicLongArray failures;
+    private final AtomicLongArray slowCalls;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+    private volatile long openedAtMillis;
+
+    public CircuitBreaker(String name, CircuitBreakerConfig config) {
+        this.name = name;
+        this.config = config;
+        this.windowSeconds = (int) Math.max(1, config.window().toSeconds());
+        this.bucketSecond = new AtomicLongArray(windowSeconds);
+        this.calls = new AtomicLongArray(windowSeconds);
+        this.failures = new AtomicLongArray(windowSeconds);
+        this.slowCalls = new AtomicLongArray(windowSeconds);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Returns {@code true} when a call may proceed. Every permitted call must be followed by
+     * {@link #onSuccess(long)}, {@link #onFailure(long)} or {@link #onCancelled()}.
+     */
+    public boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (System.currentTimeMillis() - openedAtMillis < config.openDuration().toMillis()) {
+                return false;
+            }
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                halfOpenSuccesses.set(0);
+                halfOpenPermits.set(config.halfOpenCalls());
+            }
+        }
+        return halfOpenPermits.getAndDecrement() > 0;
+    }
+
+    public void onSuccess(long durationNanos) {
+        boolean slow = durationNanos > config.slowCallDuration().toNanos();
+        if (state.get() == State.HALF_OPEN) {
+            if (slow) {
+                open(State.HALF_OPEN);
+            } else if (halfOpenSuccesses.incrementAndGet() >= config.halfOpenCalls() && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                reset();
+            }
+            return;
+        }
+        record(false, slow);
+    }
+
+    public void onFailure(long durationNanos) {
+        if (state.get() == State.HALF_OPEN) {
+            open(State.HALF_OPEN);
+            return;
+        }
+        record(true, durationNanos > config.slowCallDuration().toNanos());
+    }
+
+    /**
+     * Ends a call that was aborted by the client, such as the losing attempt of a hedged request. It says
+     * nothing about the backend, so it is not recorded; a half-open trial permit is handed back.
+     */
+    public void onCancelled() {
+        if (state.get() == State.HALF_OPEN) {
+            halfOpenPermits.incrementAndGet();
+        }
+    }
+
+    private void record(boolean failure, boolean slow) {
+        long now = System.currentTimeMillis() / 1000;
+        int index = bucket(now);
+        calls.incrementAndGet(index);
+        if (failure) {
+            failures.incrementAndGet(index);
+        }
+        if (slow) {
+            slowCalls.incrementAndGet(index);
+        }
+        if (!failure && !slow) {
+            return;
+        }
+
+        long totalCalls = 0;
+        long totalFailures = 0;
+        long totalSlowCalls = 0;
+        for (int i = 0; i < windowSeconds; i++) {
+            if (now - bucketSecond.get(i) < windowSeconds) {
+                totalCalls += calls.get(i);
+                totalFailures += failures.get(i);
+                totalSlowCalls += slowCalls.get(i);
+            }
+        }
+        if (totalCalls < config.minimumCalls()) {
+            return;
+        }
+        if (totalFailures * 100.0 / totalCalls >= config.failureRateThreshold()
+                || totalSlowCalls * 100.0 / totalCalls >= config.slowCallRateThreshold()) {
+            open(State.CLOSED);
+        }
+    }
+
+    private void open(State from) {
+        if (state.compareAndSet(from, State.OPEN)) {
+            openedAtMillis = System.currentTimeMillis();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < windowSeconds; i++) {
+            calls.set(i, 0);
+            failures.set(i, 0);
+            slowCalls.set(i, 0);
+        }
+    }
+
+    private int bucket(long second) {
+        int index = (int) (second % windowSeconds);
+        long stamp = bucketSecond.get(index);
+        if (stamp != second && bucketSecond.compareAndSet(index, stamp, second)) {
+            calls.set(index, 0);
+            failures.set(index, 0);
+            slowCalls.set(index, 0);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.http_client_library.circuitbreaker;
+
+import java.time.Duration;
+
+public record CircuitBreakerConfig(
+        float failureRateThreshold,
+        float slowCallRateThreshold,
+        Duration slowCallDuration,
+        int minimumCalls,
+        Duration window,
+        Duration openDuration,
+        int halfOpenCalls) {
+}
@@ -0,0 +1,52 @@
+package com.example.http_client_library.circuitbreaker;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpStatus;
+
+import java.io.IOException;
+
+/**
+ * Guards each attempt with the circuit breaker of its target host. Installed ahead of the connect
+ * stage, behind the response cache, so a rejected call never leases a pooled connection and cache hits
+ * bypass it. I/O errors and 5xx responses count as failures, except for attempts the client aborted
+ * itself, such as a hedged attempt that lost the race.
+ */
+@RequiredArgsConstructor
+public class CircuitBreakerExecHandler implements ExecChainHandler {
+
+    public static final String NAME = "circuit-breaker";
+
+    private final CircuitBreakerRegistry registry;
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain) throws IOException, HttpException {
+        CircuitBreaker circuitBreaker = registry.forRoute(scope.route.getTargetHost());
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new CircuitBreakerOpenException(circuitBreaker.getName());
+        }
+
+        long start = System.nanoTime();
+        ClassicHttpResponse response;
+        try {
+            response = chain.proceed(request, scope);
+        } catch (IOException | HttpException | RuntimeException e) {
+            if (scope.execRuntime.isExecutionAborted()) {
+                circuitBreaker.onCancelled();
+            } else {
+                circuitBreaker.onFailure(System.nanoTime() - start);
+            }
+            throw e;
+        }
+        if (response.getCode() >= HttpStatus.SC_SERVER_ERROR) {
+            circuitBreaker.onFailure(System.nanoTime() - start);
+        } else {
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.http_client_library.circuitbreaker;
+
+import java.io.IOException;
+
+public class CircuitBreakerOpenException extends IOException {
+
+    public CircuitBreakerOpenException(String route) {
+        super("Circuit breaker is open for " + route);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.http_client_library.circuitbreaker;
+
+import org.apache.hc.core5.http.HttpHost;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class CircuitBreakerRegistry {
+
+    private final CircuitBreakerConfig config;
+    private final ConcurrentMap<HttpHost, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakerRegistry(CircuitBreakerConfig config) {
+        this.config = config;
+    }
+
+    public CircuitBreaker forRoute(HttpHost target) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(target);
+        if (circuitBreaker != null) {
+            return circuitBreaker;
+        }
+        return circuitBreakers.computeIfAbsent(target, host -> new CircuitBreaker(host.toURI(), config));
+    }
+
+    public Collection<CircuitBreaker> getCircuitBreakers() {
+        return circuitBreakers.values();
+    }
+}
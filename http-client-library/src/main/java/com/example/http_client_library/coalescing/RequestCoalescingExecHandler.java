@@ -0,0 +1,197 @@
+package com.example.http_client_library.coalescing;
+
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Lets concurrent identical {@code GET} and {@code HEAD} requests share one exchange. The first request
+ * for a key executes; requests with the same method, URI and key headers that arrive before its response
+ * wait for it and each receive their own buffered copy. When nobody is waiting, the response is streamed
+ * through unbuffered. A body larger than {@code maxBufferedBytes} is never buffered either: the first
+ * request streams it and the waiting requests are sent on their own. Once {@code maxWaiters} requests are
+ * waiting, further requests run on their own. Requests whose context sets {@link #BYPASS_ATTRIBUTE}, such
+ * as streamed downloads, are never coalesced.
+ */
+public class RequestCoalescingExecHandler implements ExecChainHandler {
+
+    public static final String NAME = "request-coalescing";
+    public static final String BYPASS_ATTRIBUTE = "http.client.coalescing.bypass";
+
+    private final Set<String> hosts;
+    private final List<String> keyHeaders;
+    private final int maxWaiters;
+    private final int maxBufferedBytes;
+    private final ConcurrentMap<Key, Flight> flights = new ConcurrentHashMap<>();
+
+    public RequestCoalescingExecHandler(Set<String> hosts, List<String> keyHeaders, int maxWaiters, int maxBufferedBytes) {
+        this.hosts = hosts.stream().map(host -> host.toLowerCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+        this.keyHeaders = List.copyOf(keyHeaders);
+        this.maxWaiters = maxWaiters;
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain) throws IOException, HttpException {
+        if (!isCoalescable(request, scope)) {
+            return chain.proceed(request, scope);
+        }
+        Key key = key(request, scope);
+        Flight flight = new Flight();
+        Flight existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            int position = existing.waiters.incrementAndGet();
+            if (position > 0 && position <= maxWaiters) {
+                ClassicHttpResponse shared = existing.await();
+                if (shared != null) {
+                    return shared;
+                }
+            }
+            return chain.proceed(request, scope);
+        }
+
+        try {
+            ClassicHttpResponse response = chain.proceed(request, scope);
+            int waiting = flight.close();
+            flights.remove(key, flight);
+            if (waiting == 0) {
+                flight.result.complete(null);
+                return response;
+            }
+            BufferedResponse buffered = BufferedResponse.of(response, maxBufferedBytes);
+            if (buffered == null) {
+                flight.result.complete(null);
+                return response;
+            }
+            flight.result.complete(buffered);
+            return buffered.toResponse();
+        } catch (IOException | HttpException | RuntimeException e) {
+            flight.close();
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private boolean isCoalescable(ClassicHttpRequest request, ExecChain.Scope scope) {
+        if (!Method.GET.isSame(request.getMethod()) && !Method.HEAD.isSame(request.getMethod())) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(scope.clientContext.getAttribute(BYPASS_ATTRIBUTE))) {
+            return false;
+        }
+        return hosts.isEmpty() || hosts.contains(scope.route.getTargetHost().getHostName().toLowerCase(Locale.ROOT));
+    }
+
+    private Key key(ClassicHttpRequest request, ExecChain.Scope scope) {
+        String[] headerValues = new String[keyHeaders.size()];
+        for (int i = 0; i < headerValues.length; i++) {
+            Header header = request.getFirstHeader(keyHeaders.get(i));
+            headerValues[i] = header != null ? header.getValue() : null;
+        }
+        return new Key(request.getMethod(), scope.route.getTargetHost().toURI() + request.getRequestUri(), Arrays.asList(headerValues));
+    }
+
+    private record Key(String method, String uri, List<String> headerValues) {
+    }
+
+    private static final class Flight {
+        private static final int CLOSED = Integer.MIN_VALUE;
+
+        private final CompletableFuture<BufferedResponse> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        /**
+         * Stops further requests from joining and returns how many joined. Requests arriving later see a
+         * negative position and run on their own.
+         */
+        int close() {
+            int joined = waiters.getAndSet(CLOSED);
+            return Math.max(joined, 0);
+        }
+
+        /**
+         * Returns a copy of the shared response, or {@code null} when it was not buffered and the caller
+         * has to send its own request.
+         */
+        ClassicHttpResponse await() throws IOException, HttpException {
+            try {
+                BufferedResponse buffered = result.get();
+                return buffered != null ? buffered.toResponse() : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a coalesced request");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof HttpException httpException) {
+                    throw new HttpException("Coalesced request failed: " + cause.getMessage(), httpException);
+                }
+                throw new IOException("Coalesced request failed: " + cause.getMessage(), cause);
+            }
+        }
+    }
+
+    private record BufferedResponse(int code, String reasonPhrase, Header[] headers, byte[] body, String contentType, String contentEncoding) {
+
+        /**
+         * Buffers the response and closes it, or returns {@code null} and leaves the response readable when
+         * its body is larger than {@code maxBytes}.
+         */
+        static BufferedResponse of(ClassicHttpResponse response, int maxBytes) throws IOException {
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.getContentLength() > maxBytes) {
+                return null;
+            }
+            byte[] body = null;
+            if (entity != null) {
+                InputStream content = entity.getContent();
+                byte[] head = content != null ? content.readNBytes(maxBytes + 1) : new byte[0];
+                if (head.length > maxBytes) {
+                    InputStream rest = new SequenceInputStream(new ByteArrayInputStream(head), content);
+                    response.setEntity(new InputStreamEntity(rest, entity.getContentLength(),
+                            entity.getContentType() != null ? ContentType.parse(entity.getContentType()) : null, entity.getContentEncoding()));
+                    return null;
+                }
+                body = head;
+            }
+            response.close();
+            return new BufferedResponse(response.getCode(), response.getReasonPhrase(), response.getHeaders(), body,
+                    entity != null ? entity.getContentType() : null, entity != null ? entity.getContentEncoding() : null);
+        }
+
+        ClassicHttpResponse toResponse() {
+            BasicClassicHttpResponse response = new BasicClassicHttpResponse(code, reasonPhrase);
+            response.setHeaders(headers);
+            if (body != null) {
+                response.setEntity(new ByteArrayEntity(body, contentType != null ? ContentType.parse(contentType) : null, contentEncoding));
+            }
+            return response;
+        }
+    }
+}
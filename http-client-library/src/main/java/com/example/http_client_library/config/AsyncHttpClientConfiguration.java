@@ -0,0 +1,109 @@
+package com.example.http_client_library.config;
+
+import com.example.http_client_library.async.AsyncHttpClientTemplate;
+import com.example.http_client_library.pool.RouteLimits;
+import com.example.http_client_library.retry.RetryBudget;
+import com.example.http_client_library.retry.RetryBudgetExecHandler;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.HttpComponentsClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+@ConditionalOnProperty(prefix = "http.client.async", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AsyncHttpClientConfiguration {
+
+    private final HttpClientProperties properties;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PoolingAsyncClientConnectionManager asyncConnectionManager() {
+        HttpClientProperties.Pool pool = properties.getPool();
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout().toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(pool.getConnectionTimeToLive().toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(pool.getValidateAfterInactivity().toMillis()))
+                        .build())
+                .setMessageMultiplexing(true)
+                .build();
+        RouteLimits.resolve(pool.getMaxConnectionsPerHost()).forEach(connectionManager::setMaxPerRoute);
+        return connectionManager;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CloseableHttpAsyncClient httpAsyncClient(PoolingAsyncClientConnectionManager asyncConnectionManager, RequestConfig requestConfig,
+                                                    ObjectProvider<HttpRequestRetryStrategy> retryStrategy, ObjectProvider<RetryBudget> retryBudget) {
+        HttpClientProperties.Async async = properties.getAsync();
+        HttpAsyncClientBuilder builder = HttpAsyncClientBuilder.create()
+                .setConnectionManager(asyncConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setVersionPolicy(async.getVersionPolicy())
+                .setH2Config(H2Config.custom()
+                        .setMaxConcurrentStreams(async.getMaxConcurrentStreams())
+                        .build())
+                .setIOReactorConfig(IOReactorConfig.custom()
+                        .setIoThreadCount(async.getIoThreads() > 0 ? async.getIoThreads() : Runtime.getRuntime().availableProcessors())
+                        .setSoKeepAlive(true)
+                        .build())
+                .evictExpiredConnections();
+        HttpClientProperties.Pool pool = properties.getPool();
+        if (pool.isEvictIdleConnections()) {
+            builder.evictIdleConnections(TimeValue.ofMilliseconds(pool.getMaxIdleTime().toMillis()));
+        }
+
+        HttpRequestRetryStrategy strategy = retryStrategy.getIfAvailable();
+        if (strategy == null) {
+            builder.disableAutomaticRetries();
+        } else {
+            builder.setRetryStrategy(strategy);
+            retryBudget.ifAvailable(budget ->
+                    builder.addExecInterceptorBefore(ChainElement.RETRY.name(), RetryBudgetExecHandler.NAME, new RetryBudgetExecHandler(budget)));
+        }
+
+        CloseableHttpAsyncClient client = builder.build();
+        client.start();
+        return client;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AsyncHttpClientTemplate asyncHttpClientTemplate(CloseableHttpAsyncClient httpAsyncClient) {
+        return new AsyncHttpClientTemplate(httpAsyncClient);
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = {"org.springframework.web.reactive.function.client.WebClient", "org.apache.hc.core5.reactive.ReactiveResponseConsumer"})
+    static class WebClientConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public WebClient webClient(CloseableHttpAsyncClient httpAsyncClient) {
+            return WebClient.builder()
+                    .clientConnector(new HttpComponentsClientHttpConnector(httpAsyncClient))
+                    .build();
+        }
+    }
+}
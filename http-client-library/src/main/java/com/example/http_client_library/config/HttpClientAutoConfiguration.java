@@ -1,12 +1,41 @@
 package com.example.http_client_library.config;
 
+import com.example.http_client_library.cache.BoundedHttpCacheStorage;
+import com.example.http_client_library.cache.CacheStatisticsExecHandler;
+import com.example.http_client_library.cache.ResponseCacheStatistics;
+import com.example.http_client_library.cache.TieredResourceFactory;
+import com.example.http_client_library.circuitbreaker.CircuitBreakerConfig;
+import com.example.http_client_library.coalescing.RequestCoalescingExecHandler;
+import com.example.http_client_library.circuitbreaker.CircuitBreakerExecHandler;
+import com.example.http_client_library.circuitbreaker.CircuitBreakerRegistry;
+import com.example.http_client_library.fanout.FanOutDeadlineExecHandler;
+import com.example.http_client_library.fanout.FanOutExecutor;
+import com.example.http_client_library.hedging.HedgingExecHandler;
+import com.example.http_client_library.loadbalancer.LoadBalancerExecHandler;
+import com.example.http_client_library.loadbalancer.LoadBalancerRegistry;
+import com.example.http_client_library.streaming.ByteBufferPool;
+import com.example.http_client_library.streaming.StreamingTransferTemplate;
+import com.example.http_client_library.pool.RouteLimits;
+import com.example.http_client_library.retry.BudgetedRetryStrategy;
+import com.example.http_client_library.retry.RetryBudget;
+import com.example.http_client_library.retry.RetryBudgetExecHandler;
 import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpRequestRetryStrategy;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.cache.CacheConfig;
+import org.apache.hc.client5.http.impl.cache.CachingHttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,9 +52,22 @@ public class HttpClientAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     public PoolingHttpClientConnectionManager connectionManager() {
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-        connectionManager.setMaxTotal(properties.getMaxConnections());
-        connectionManager.setDefaultMaxPerRoute(properties.getMaxConnectionsPerRoute());
+        HttpClientProperties.Pool pool = properties.getPool();
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultSocketConfig(SocketConfig.custom()
+                        .setSoTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+                        .setSoKeepAlive(true)
+                        .build())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout().toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(pool.getConnectionTimeToLive().toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(pool.getValidateAfterInactivity().toMillis()))
+                        .build())
+                .build();
+        RouteLimits.resolve(pool.getMaxConnectionsPerHost()).forEach(connectionManager::setMaxPerRoute);
         return connectionManager;
     }
 
@@ -40,11 +82,128 @@ public class HttpClientAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public HttpClient httpClient(PoolingHttpClientConnectionManager connectionManager, RequestConfig requestConfig) {
-        return HttpClientBuilder.create()
+    @ConditionalOnProperty(prefix = "http.client", name = "enable-retry", havingValue = "true", matchIfMissing = true)
+    public RetryBudget retryBudget() {
+        return new RetryBudget(properties.getRetryBudgetRatio(), properties.getMinRetriesPerSecond(), properties.getRetryBudgetWindow());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "http.client", name = "enable-retry", havingValue = "true", matchIfMissing = true)
+    public HttpRequestRetryStrategy httpRequestRetryStrategy(RetryBudget retryBudget) {
+        return new BudgetedRetryStrategy(properties.getMaxRetryAttempts(), properties.getRetryDelay(),
+                properties.getMaxRetryDelay(), properties.getRetryableStatusCodes(), retryBudget);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "http.client", name = "enable-circuit-breaker", havingValue = "true")
+    public CircuitBreakerRegistry circuitBreakerRegistry() {
+        HttpClientProperties.CircuitBreaker circuitBreaker = properties.getCircuitBreaker();
+        return new CircuitBreakerRegistry(new CircuitBreakerConfig(
+                circuitBreaker.getFailureRateThreshold(),
+                circuitBreaker.getSlowCallRateThreshold(),
+                circuitBreaker.getSlowCallDuration(),
+                circuitBreaker.getMinimumCalls(),
+                circuitBreaker.getWindow(),
+                circuitBreaker.getOpenDuration(),
+                circuitBreaker.getHalfOpenCalls()));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "http.client.cache", name = "enabled", havingValue = "true")
+    public BoundedHttpCacheStorage httpCacheStorage() {
+        HttpClientProperties.Cache cache = properties.getCache();
+        TieredResourceFactory resourceFactory = new TieredResourceFactory(cache.getDiskDirectory(), cache.getDiskThreshold().toBytes());
+        return new BoundedHttpCacheStorage(cache.getMaxEntries(), cache.getMaxMemorySize().toBytes(), cache.getMaxDiskSize().toBytes(), resourceFactory);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "http.client.cache", name = "enabled", havingValue = "true")
+    public ResponseCacheStatistics responseCacheStatistics() {
+        return new ResponseCacheStatistics();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "http.client.hedging", name = "enabled", havingValue = "true")
+    public HedgingExecHandler hedgingExecHandler() {
+        HttpClientProperties.Hedging hedging = properties.getHedging();
+        return new HedgingExecHandler(hedging.getDelay(), hedging.getPercentile(), hedging.getMinDelay(), hedging.getMinSamples(),
+                hedging.getLatencyWindow(), new RetryBudget(hedging.getBudgetRatio(), hedging.getMinHedgesPerSecond(), hedging.getBudgetWindow()),
+                hedging.getMaxConcurrentHedges());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "http.client.load-balancer", name = "enabled", havingValue = "true")
+    public LoadBalancerRegistry loadBalancerRegistry() {
+        HttpClientProperties.LoadBalancer loadBalancer = properties.getLoadBalancer();
+        return new LoadBalancerRegistry(loadBalancer.getServices(), loadBalancer.getFailureThreshold(), loadBalancer.getBaseEjectionTime(),
+                loadBalancer.getMaxEjectionTime(), loadBalancer.getMaxEjectionPercent(), loadBalancer.getLatencyDecay());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public HttpClient httpClient(PoolingHttpClientConnectionManager connectionManager, RequestConfig requestConfig,
+                                 ObjectProvider<HttpRequestRetryStrategy> retryStrategy, ObjectProvider<RetryBudget> retryBudget,
+                                 ObjectProvider<CircuitBreakerRegistry> circuitBreakerRegistry,
+                                 ObjectProvider<BoundedHttpCacheStorage> cacheStorage, ObjectProvider<ResponseCacheStatistics> cacheStatistics,
+                                 ObjectProvider<HedgingExecHandler> hedging, ObjectProvider<LoadBalancerRegistry> loadBalancerRegistry) {
+        HttpClientBuilder builder = createBuilder(cacheStorage.getIfAvailable())
                 .setConnectionManager(connectionManager)
                 .setDefaultRequestConfig(requestConfig)
-                .build();
+                .evictExpiredConnections();
+        HttpClientProperties.Pool pool = properties.getPool();
+        if (pool.isEvictIdleConnections()) {
+            builder.evictIdleConnections(TimeValue.ofMilliseconds(pool.getMaxIdleTime().toMillis()));
+        }
+
+        HttpRequestRetryStrategy strategy = retryStrategy.getIfAvailable();
+        if (strategy == null) {
+            builder.disableAutomaticRetries();
+        } else {
+            builder.setRetryStrategy(strategy);
+            retryBudget.ifAvailable(budget ->
+                    builder.addExecInterceptorBefore(ChainElement.RETRY.name(), RetryBudgetExecHandler.NAME, new RetryBudgetExecHandler(budget)));
+        }
+        HttpClientProperties.Coalescing coalescing = properties.getCoalescing();
+        if (coalescing.isEnabled()) {
+            builder.addExecInterceptorBefore(ChainElement.REDIRECT.name(), RequestCoalescingExecHandler.NAME,
+                    new RequestCoalescingExecHandler(coalescing.getHosts(), coalescing.getKeyHeaders(), coalescing.getMaxWaiters(),
+                            Math.toIntExact(coalescing.getMaxBufferedSize().toBytes())));
+        }
+        cacheStatistics.ifAvailable(statistics ->
+                builder.addExecInterceptorFirst(CacheStatisticsExecHandler.NAME, new CacheStatisticsExecHandler(statistics)));
+        builder.addExecInterceptorBefore(ChainElement.PROTOCOL.name(), FanOutDeadlineExecHandler.NAME, new FanOutDeadlineExecHandler());
+        hedging.ifAvailable(handler ->
+                builder.addExecInterceptorBefore(ChainElement.PROTOCOL.name(), HedgingExecHandler.NAME, handler));
+        CircuitBreakerRegistry breakers = circuitBreakerRegistry.getIfAvailable();
+        if (breakers != null) {
+            builder.addExecInterceptorBefore(ChainElement.CONNECT.name(), CircuitBreakerExecHandler.NAME, new CircuitBreakerExecHandler(breakers));
+        }
+        // Behind the response cache, which keys entries by the logical service URI, and ahead of the breaker.
+        String loadBalancerPosition = breakers != null ? CircuitBreakerExecHandler.NAME : ChainElement.CONNECT.name();
+        loadBalancerRegistry.ifAvailable(registry ->
+                builder.addExecInterceptorBefore(loadBalancerPosition, LoadBalancerExecHandler.NAME, new LoadBalancerExecHandler(registry)));
+        return builder.build();
+    }
+
+    private HttpClientBuilder createBuilder(BoundedHttpCacheStorage cacheStorage) {
+        if (cacheStorage == null) {
+            return HttpClientBuilder.create();
+        }
+        HttpClientProperties.Cache cache = properties.getCache();
+        return CachingHttpClientBuilder.create()
+                .setHttpCacheStorage(cacheStorage)
+                .setResourceFactory(cacheStorage.getResourceFactory())
+                .setCacheConfig(CacheConfig.custom()
+                        .setMaxCacheEntries(cache.getMaxEntries())
+                        .setMaxObjectSize(cache.getMaxObjectSize().toBytes())
+                        .setSharedCache(cache.isSharedCache())
+                        .build());
     }
 
     @Bean
@@ -54,4 +213,25 @@ public class HttpClientAutoConfiguration {
         factory.setHttpClient(httpClient);
         return new RestTemplate(factory);
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ByteBufferPool byteBufferPool() {
+        HttpClientProperties.Streaming streaming = properties.getStreaming();
+        return new ByteBufferPool((int) streaming.getBufferSize().toBytes(), streaming.getMaxPooledBuffers());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public StreamingTransferTemplate streamingTransferTemplate(HttpClient httpClient, ByteBufferPool byteBufferPool) {
+        return new StreamingTransferTemplate(httpClient, byteBufferPool);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public FanOutExecutor fanOutExecutor() {
+        HttpClientProperties.FanOut fanOut = properties.getFanOut();
+        return new FanOutExecutor(fanOut.isVirtualThreads(), fanOut.getMaxThreads(), properties.getMaxConnectionsPerRoute(),
+                RouteLimits.resolve(properties.getPool().getMaxConnectionsPerHost()));
+    }
 }
@@ -0,0 +1,43 @@
+package com.example.http_client_library.config;
+
+import com.example.http_client_library.cache.BoundedHttpCacheStorage;
+import com.example.http_client_library.cache.ResponseCacheMetrics;
+import com.example.http_client_library.cache.ResponseCacheStatistics;
+import com.example.http_client_library.pool.ConnectionPoolMetrics;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+public class HttpClientMetricsConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public ConnectionPoolMetrics connectionPoolMetrics(ObjectProvider<PoolingHttpClientConnectionManager> connectionManager,
+                                                       ObjectProvider<PoolingAsyncClientConnectionManager> asyncConnectionManager,
+                                                       HttpClientProperties properties) {
+        Map<String, ConnPoolControl<HttpRoute>> pools = new LinkedHashMap<>();
+        connectionManager.ifAvailable(pool -> pools.put("classic", pool));
+        asyncConnectionManager.ifAvailable(pool -> pools.put("async", pool));
+        return new ConnectionPoolMetrics(pools, Duration.ofSeconds(10), properties.getPool().getMaxMeteredRoutes());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "http.client.cache", name = "enabled", havingValue = "true")
+    public ResponseCacheMetrics responseCacheMetrics(ResponseCacheStatistics responseCacheStatistics, BoundedHttpCacheStorage httpCacheStorage) {
+        return new ResponseCacheMetrics(responseCacheStatistics, httpCacheStorage);
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.http_client_library.config;
 
 import lombok.Data;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Component
 @ConfigurationProperties(prefix = "http.client")
@@ -18,10 +24,111 @@ public class HttpClientProperties {
     private Duration writeTimeout = Duration.ofSeconds(30);
     private int maxConnections = 100;
     private int maxConnectionsPerRoute = 20;
+    private Pool pool = new Pool();
     private boolean enableRetry = true;
     private int maxRetryAttempts = 3;
     private Duration retryDelay = Duration.ofSeconds(1);
+    private Duration maxRetryDelay = Duration.ofSeconds(10);
+    private Set<Integer> retryableStatusCodes = Set.of(429, 502, 503, 504);
+    private double retryBudgetRatio = 0.2;
+    private int minRetriesPerSecond = 10;
+    private Duration retryBudgetWindow = Duration.ofSeconds(10);
     private boolean enableCircuitBreaker = false;
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Async async = new Async();
+    private FanOut fanOut = new FanOut();
+    private Cache cache = new Cache();
+    private Coalescing coalescing = new Coalescing();
+    private Hedging hedging = new Hedging();
+    private LoadBalancer loadBalancer = new LoadBalancer();
+    private Streaming streaming = new Streaming();
     private String userAgent = "HttpClientLibrary/1.0";
     private Map<String, String> defaultHeaders = new HashMap<>();
+
+    @Data
+    public static class Pool {
+        private Map<String, Integer> maxConnectionsPerHost = new HashMap<>();
+        private Duration connectionTimeToLive = Duration.ofMinutes(5);
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+        private boolean evictIdleConnections = true;
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private int maxMeteredRoutes = 100;
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 100;
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+        private int minimumCalls = 20;
+        private Duration window = Duration.ofSeconds(10);
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 5;
+    }
+
+    @Data
+    public static class Async {
+        private boolean enabled = false;
+        private HttpVersionPolicy versionPolicy = HttpVersionPolicy.NEGOTIATE;
+        private int maxConcurrentStreams = 100;
+        private int ioThreads = 0;
+    }
+
+    @Data
+    public static class FanOut {
+        private boolean virtualThreads = true;
+        private int maxThreads = 200;
+    }
+
+    @Data
+    public static class Cache {
+        private boolean enabled = false;
+        private boolean sharedCache = true;
+        private int maxEntries = 1000;
+        private DataSize maxObjectSize = DataSize.ofMegabytes(8);
+        private DataSize maxMemorySize = DataSize.ofMegabytes(64);
+        private Path diskDirectory;
+        private DataSize diskThreshold = DataSize.ofKilobytes(64);
+        private DataSize maxDiskSize = DataSize.ofGigabytes(1);
+    }
+
+    @Data
+    public static class Coalescing {
+        private boolean enabled = false;
+        private Set<String> hosts = new HashSet<>();
+        private List<String> keyHeaders = List.of("Accept", "Accept-Encoding", "Accept-Language", "Authorization", "Cookie");
+        private int maxWaiters = 100;
+        private DataSize maxBufferedSize = DataSize.ofMegabytes(1);
+    }
+
+    @Data
+    public static class Hedging {
+        private boolean enabled = false;
+        private Duration delay = Duration.ofMillis(100);
+        private double percentile = 0;
+        private Duration minDelay = Duration.ofMillis(5);
+        private long minSamples = 100;
+        private Duration latencyWindow = Duration.ofSeconds(30);
+        private double budgetRatio = 0.05;
+        private int minHedgesPerSecond = 5;
+        private Duration budgetWindow = Duration.ofSeconds(10);
+        private int maxConcurrentHedges = 50;
+    }
+
+    @Data
+    public static class LoadBalancer {
+        private boolean enabled = false;
+        private Map<String, List<String>> services = new HashMap<>();
+        private int failureThreshold = 5;
+        private Duration baseEjectionTime = Duration.ofSeconds(30);
+        private Duration maxEjectionTime = Duration.ofMinutes(5);
+        private int maxEjectionPercent = 50;
+        private Duration latencyDecay = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Streaming {
+        private DataSize bufferSize = DataSize.ofKilobytes(64);
+        private int maxPooledBuffers = 32;
+    }
 }
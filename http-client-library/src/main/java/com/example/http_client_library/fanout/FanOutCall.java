@@ -0,0 +1,16 @@
+package com.example.http_client_library.fanout;
+
+import org.apache.hc.core5.http.HttpHost;
+
+import java.net.URI;
+
+/**
+ * A named call in a fan-out batch. {@code route} is the target host the call will connect to; it is used
+ * to keep concurrent calls per host within that host's connection limit.
+ */
+public record FanOutCall<T>(String name, HttpHost route, FanOutTask<T> task) {
+
+    public static <T> FanOutCall<T> of(String name, URI uri, FanOutTask<T> task) {
+        return new FanOutCall<>(name, HttpHost.create(uri), task);
+    }
+}
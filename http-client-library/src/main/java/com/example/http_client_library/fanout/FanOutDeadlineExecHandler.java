@@ -0,0 +1,63 @@
+package com.example.http_client_library.fanout;
+
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the connection request, connect and response timeouts of a request made from a {@link FanOutExecutor}
+ * task at the time left before the batch deadline. A blocking socket read cannot be interrupted, so this is
+ * what makes a straggler give up its connection at the deadline. Installed behind the retry stage, so every
+ * attempt gets the time that is actually left, and ahead of hedging, whose copies inherit the capped config.
+ */
+public class FanOutDeadlineExecHandler implements ExecChainHandler {
+
+    public static final String NAME = "fan-out-deadline";
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    static void setDeadline(long deadlineNanos) {
+        DEADLINE.set(deadlineNanos);
+    }
+
+    static void clearDeadline() {
+        DEADLINE.remove();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain) throws IOException, HttpException {
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return chain.proceed(request, scope);
+        }
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+            throw new SocketTimeoutException("Fan-out deadline exceeded before " + request.getMethod() + " " + request.getRequestUri());
+        }
+        HttpClientContext context = scope.clientContext;
+        RequestConfig config = context.getRequestConfigOrDefault();
+        context.setRequestConfig(RequestConfig.copy(config)
+                .setConnectionRequestTimeout(cap(config.getConnectionRequestTimeout(), remainingMillis))
+                .setConnectTimeout(cap(config.getConnectTimeout(), remainingMillis))
+                .setResponseTimeout(cap(config.getResponseTimeout(), remainingMillis))
+                .build());
+        return chain.proceed(request, scope);
+    }
+
+    private static Timeout cap(Timeout timeout, long remainingMillis) {
+        if (timeout == null || timeout.isDisabled() || timeout.toMilliseconds() > remainingMillis) {
+            return Timeout.ofMilliseconds(remainingMillis);
+        }
+        return timeout;
+    }
+}
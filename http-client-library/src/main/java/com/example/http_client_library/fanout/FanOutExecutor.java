@@ -0,0 +1,172 @@
+package com.example.http_client_library.fanout;
+
+import com.example.http_client_library.fanout.FanOutResult.CallResult;
+import com.example.http_client_library.fanout.FanOutResult.Status;
+import com.example.http_client_library.pool.RouteLimits;
+import lombok.extern.java.Log;
+import org.apache.hc.client5.http.HttpRoute;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Runs a batch of blocking downstream calls concurrently under one deadline. Calls run on virtual threads
+ * when the JVM supports them, otherwise on a bounded pool. Concurrent calls per target host are capped at
+ * that host's connection limit, so a batch queues for a host instead of exhausting its connection pool.
+ * The batch returns when the deadline passes, when the required number of calls has succeeded, or when
+ * every call has finished; calls still running at that point are cancelled. Requests a task makes through
+ * a client with {@link FanOutDeadlineExecHandler} have their timeouts capped at the deadline, so they also
+ * release their connections when a blocking read cannot be interrupted.
+ */
+@Log
+public class FanOutExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final int maxConcurrencyPerRoute;
+    private final Map<HttpRoute, Integer> routeLimits;
+    private final ConcurrentMap<HttpRoute, Semaphore> routePermits = new ConcurrentHashMap<>();
+
+    public FanOutExecutor(boolean virtualThreads, int maxThreads, int maxConcurrencyPerRoute) {
+        this(virtualThreads, maxThreads, maxConcurrencyPerRoute, Map.of());
+    }
+
+    /**
+     * @param routeLimits per-route overrides of {@code maxConcurrencyPerRoute}, as resolved by {@link RouteLimits}
+     */
+    public FanOutExecutor(boolean virtualThreads, int maxThreads, int maxConcurrencyPerRoute, Map<HttpRoute, Integer> routeLimits) {
+        this.executor = createExecutor(virtualThreads, maxThreads);
+        this.maxConcurrencyPerRoute = maxConcurrencyPerRoute;
+        this.routeLimits = Map.copyOf(routeLimits);
+    }
+
+    public <T> FanOutResult<T> execute(List<FanOutCall<T>> calls, Duration deadline) {
+        return execute(calls, deadline, calls.size());
+    }
+
+    /**
+     * Runs {@code calls} and returns once {@code requiredSuccesses} have succeeded, every call has finished,
+     * or {@code deadline} has passed. Calls that did not finish are reported as {@link Status#TIMED_OUT}
+     * when the deadline passed and as {@link Status#CANCELLED} otherwise.
+     */
+    public <T> FanOutResult<T> execute(List<FanOutCall<T>> calls, Duration deadline, int requiredSuccesses) {
+        int size = calls.size();
+        long start = System.nanoTime();
+        long deadlineNanos = start + deadline.toNanos();
+        AtomicReferenceArray<CallResult<T>> results = new AtomicReferenceArray<>(size);
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        int required = Math.min(requiredSuccesses, size);
+        if (size == 0 || required <= 0) {
+            done.complete(null);
+        }
+
+        List<Future<?>> futures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            FanOutCall<T> call = calls.get(i);
+            futures.add(executor.submit(() -> {
+                CallResult<T> result = run(call, start, deadlineNanos);
+                if (result != null) {
+                    results.set(index, result);
+                    if (result.isSuccess() && successes.incrementAndGet() >= required) {
+                        done.complete(null);
+                    }
+                }
+                if (finished.incrementAndGet() == size) {
+                    done.complete(null);
+                }
+            }));
+        }
+
+        boolean timedOut = false;
+        try {
+            done.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timedOut = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        Status unfinished = timedOut ? Status.TIMED_OUT : Status.CANCELLED;
+        List<CallResult<T>> collected = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            CallResult<T> result = results.get(i);
+            collected.add(result != null ? result : new CallResult<>(calls.get(i).name(), unfinished, null, null, elapsed));
+        }
+        futures.forEach(future -> future.cancel(true));
+        return new FanOutResult<>(List.copyOf(collected));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> CallResult<T> run(FanOutCall<T> call, long start, long deadlineNanos) {
+        Semaphore permits = routePermits.computeIfAbsent(RouteLimits.route(call.route()),
+                route -> new Semaphore(routeLimits.getOrDefault(route, maxConcurrencyPerRoute)));
+        try {
+            if (!permits.tryAcquire(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+        } catch (InterruptedException e) {
+            return null;
+        }
+        FanOutDeadlineExecHandler.setDeadline(deadlineNanos);
+        try {
+            T value = call.task().call(Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())));
+            return new CallResult<>(call.name(), Status.SUCCEEDED, value, null, Duration.ofNanos(System.nanoTime() - start));
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted() || e instanceof InterruptedException) {
+                return null;
+            }
+            return new CallResult<>(call.name(), Status.FAILED, null, e, Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            FanOutDeadlineExecHandler.clearDeadline();
+            permits.release();
+        }
+    }
+
+    private static ExecutorService createExecutor(boolean virtualThreads, int maxThreads) {
+        if (virtualThreads) {
+            try {
+                return (ExecutorService) MethodHandles.publicLookup()
+                        .findStatic(java.util.concurrent.Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                        .invoke();
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                log.info("Virtual threads are not available, fan-out uses a pool of " + maxThreads + " threads");
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to create virtual thread executor", e);
+            }
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "http-fan-out-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.http_client_library.fanout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outcome of a fan-out batch, one {@link CallResult} per submitted call in submission order.
+ */
+public record FanOutResult<T>(List<CallResult<T>> results) {
+
+    public enum Status {
+        SUCCEEDED, FAILED, TIMED_OUT, CANCELLED
+    }
+
+    public record CallResult<T>(String name, Status status, T value, Throwable error, Duration elapsed) {
+
+        public boolean isSuccess() {
+            return status == Status.SUCCEEDED;
+        }
+    }
+
+    public List<T> successfulValues() {
+        return results.stream().filter(CallResult::isSuccess).map(CallResult::value).toList();
+    }
+
+    public long successCount() {
+        return results.stream().filter(CallResult::isSuccess).count();
+    }
+
+    public Optional<CallResult<T>> get(String name) {
+        return results.stream().filter(result -> result.name().equals(name)).findFirst();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.http_client_library.fanout;
+
+import java.time.Duration;
+
+/**
+ * One downstream call of a fan-out. {@code remaining} is the time left until the batch deadline, so the
+ * call can bound its own timeouts instead of outliving the batch.
+ */
+@FunctionalInterface
+public interface FanOutTask<T> {
+
+    T call(Duration remaining) throws Exception;
+}
@@ -0,0 +1,226 @@
+package com.example.http_client_library.hedging;
+
+import com.example.http_client_library.retry.RetryBudget;
+import lombok.extern.java.Log;
+import org.apache.hc.client5.http.cache.CacheResponseStatus;
+import org.apache.hc.client5.http.cache.HttpCacheContext;
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.ComplexCancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends a second copy of a safe request ({@code GET}, {@code HEAD}, {@code OPTIONS}) when the first has
+ * not answered within the hedge delay, and returns whichever answers first; the other attempt is aborted
+ * and its connection discarded. The delay is fixed, or the configured latency percentile of the target
+ * host once enough samples have been seen. Hedges are drawn from a budget relative to request volume and
+ * limited to {@code maxConcurrentHedges} in flight, so hedging cannot double the load on a slow backend.
+ * A timer that fires after the primary has answered takes no budget, and cancelled timers are removed
+ * from the timer queue at once.
+ * Installed ahead of the protocol stage, so each attempt runs the protocol, cache and connect stages on its
+ * own forked runtime and the returned entity releases the winner's connection.
+ */
+@Log
+public class HedgingExecHandler implements ExecChainHandler, AutoCloseable {
+
+    public static final String NAME = "hedging";
+
+    private static final int WAITING = 0;
+    private static final int HEDGED = 1;
+    private static final int COMPLETED = 2;
+
+    private final long fixedDelayNanos;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long minSamples;
+    private final Duration latencyWindow;
+    private final RetryBudget hedgeBudget;
+    private final ScheduledThreadPoolExecutor timer;
+    private final ThreadPoolExecutor hedgeExecutor;
+    private final ConcurrentMap<HttpHost, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    public HedgingExecHandler(Duration delay, double percentile, Duration minDelay, long minSamples, Duration latencyWindow,
+                              RetryBudget hedgeBudget, int maxConcurrentHedges) {
+        this.fixedDelayNanos = delay.toNanos();
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.minSamples = minSamples;
+        this.latencyWindow = latencyWindow;
+        this.hedgeBudget = hedgeBudget;
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "http-hedge-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        AtomicInteger counter = new AtomicInteger();
+        this.hedgeExecutor = new ThreadPoolExecutor(0, maxConcurrentHedges, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "http-hedge-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain) throws IOException, HttpException {
+        if (!isHedgeable(request)) {
+            return chain.proceed(request, scope);
+        }
+        hedgeBudget.recordRequest();
+        LatencyHistogram histogram = latencies.computeIfAbsent(scope.route.getTargetHost(), host -> new LatencyHistogram(latencyWindow));
+
+        AtomicInteger state = new AtomicInteger(WAITING);
+        AtomicBoolean decided = new AtomicBoolean();
+        ComplexCancellable primaryCancellable = new ComplexCancellable();
+        ComplexCancellable hedgeCancellable = new ComplexCancellable();
+        CompletableFuture<ClassicHttpResponse> hedgeResult = new CompletableFuture<>();
+        ClassicHttpRequest hedgeRequest = ClassicRequestBuilder.copy(request).build();
+
+        ScheduledFuture<?> trigger = timer.schedule(() -> {
+            if (!state.compareAndSet(WAITING, HEDGED)) {
+                return;
+            }
+            if (!hedgeBudget.tryAcquireRetry()) {
+                hedgeResult.cancel(false);
+                return;
+            }
+            try {
+                hedgeExecutor.execute(() -> runHedge(hedgeRequest, scope, chain, histogram, decided, hedgeCancellable, primaryCancellable, hedgeResult));
+            } catch (RejectedExecutionException e) {
+                hedgeResult.completeExceptionally(e);
+            }
+        }, hedgeDelay(histogram), TimeUnit.NANOSECONDS);
+
+        ExecChain.Scope primaryScope = new ExecChain.Scope(scope.exchangeId, scope.route, scope.originalRequest,
+                scope.execRuntime.fork(primaryCancellable), scope.clientContext);
+        long start = System.nanoTime();
+        ClassicHttpResponse response;
+        try {
+            response = chain.proceed(request, primaryScope);
+        } catch (IOException | HttpException | RuntimeException e) {
+            trigger.cancel(false);
+            if (state.compareAndSet(WAITING, COMPLETED)) {
+                throw e;
+            }
+            return awaitHedge(hedgeResult, e);
+        }
+        trigger.cancel(false);
+        if (!isCacheResponse(scope.clientContext)) {
+            histogram.record(System.nanoTime() - start);
+        }
+        if (state.compareAndSet(WAITING, COMPLETED) || decided.compareAndSet(false, true)) {
+            hedgeCancellable.cancel();
+            return response;
+        }
+        response.close();
+        return awaitHedge(hedgeResult, null);
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        hedgeExecutor.shutdownNow();
+    }
+
+    private void runHedge(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain, LatencyHistogram histogram, AtomicBoolean decided,
+                          ComplexCancellable hedgeCancellable, ComplexCancellable primaryCancellable, CompletableFuture<ClassicHttpResponse> hedgeResult) {
+        if (decided.get()) {
+            hedgeResult.cancel(false);
+            return;
+        }
+        ExecChain.Scope hedgeScope = new ExecChain.Scope(scope.exchangeId + "-hedge", scope.route, scope.originalRequest,
+                scope.execRuntime.fork(hedgeCancellable), copyContext(scope.clientContext));
+        long start = System.nanoTime();
+        try {
+            ClassicHttpResponse response = chain.proceed(request, hedgeScope);
+            histogram.record(System.nanoTime() - start);
+            if (decided.compareAndSet(false, true)) {
+                hedgeResult.complete(response);
+                primaryCancellable.cancel();
+            } else {
+                response.close();
+                hedgeResult.cancel(false);
+            }
+        } catch (Exception e) {
+            log.fine("Hedged request to " + scope.route.getTargetHost() + " failed: " + e.getMessage());
+            hedgeResult.completeExceptionally(e);
+        }
+    }
+
+    private static ClassicHttpResponse awaitHedge(CompletableFuture<ClassicHttpResponse> hedgeResult, Exception primaryFailure)
+            throws IOException, HttpException {
+        try {
+            return hedgeResult.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a hedged request");
+        } catch (ExecutionException | CancellationException e) {
+            if (primaryFailure instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (primaryFailure instanceof HttpException httpException) {
+                throw httpException;
+            }
+            if (primaryFailure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IOException("Hedged request failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private long hedgeDelay(LatencyHistogram histogram) {
+        if (percentile <= 0) {
+            return fixedDelayNanos;
+        }
+        long observed = histogram.percentile(percentile, minSamples);
+        return observed < 0 ? fixedDelayNanos : Math.max(minDelayNanos, observed);
+    }
+
+    private static boolean isHedgeable(ClassicHttpRequest request) {
+        String method = request.getMethod();
+        return request.getEntity() == null
+                && (Method.GET.isSame(method) || Method.HEAD.isSame(method) || Method.OPTIONS.isSame(method));
+    }
+
+    private static boolean isCacheResponse(HttpClientContext context) {
+        if (context instanceof HttpCacheContext cacheContext) {
+            CacheResponseStatus status = cacheContext.getCacheResponseStatus();
+            return status == CacheResponseStatus.CACHE_HIT || status == CacheResponseStatus.CACHE_MODULE_RESPONSE;
+        }
+        return false;
+    }
+
+    private static HttpClientContext copyContext(HttpClientContext context) {
+        HttpClientContext copy = context instanceof HttpCacheContext ? HttpCacheContext.create() : HttpClientContext.create();
+        copy.setRequestConfig(context.getRequestConfigOrDefault());
+        copy.setCookieStore(context.getCookieStore());
+        copy.setCredentialsProvider(context.getCredentialsProvider());
+        copy.setAuthCache(context.getAuthCache());
+        copy.setUserToken(context.getUserToken());
+        return copy;
+    }
+}
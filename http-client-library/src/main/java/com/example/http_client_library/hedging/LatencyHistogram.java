@@ -0,0 +1,82 @@
+package com.example.http_client_library.hedging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets (100µs growing by 25% per bucket, up to about two
+ * minutes) over a sliding window. Samples go into the current window; percentiles are read from the
+ * current and previous windows, so the estimate follows recent behaviour without dropping to nothing at
+ * each rotation.
+ */
+class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+    private static final double BASE_NANOS = 100_000;
+    private static final double GROWTH = 1.25;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+
+    private final long windowNanos;
+    private final AtomicReference<Window> current;
+    private volatile Window previous;
+
+    LatencyHistogram(Duration window) {
+        this.windowNanos = window.toNanos();
+        this.current = new AtomicReference<>(new Window(System.nanoTime()));
+        this.previous = new Window(System.nanoTime());
+    }
+
+    void record(long nanos) {
+        int bucket = nanos <= BASE_NANOS ? 0 : Math.min(BUCKETS - 1, 1 + (int) (Math.log(nanos / BASE_NANOS) / LOG_GROWTH));
+        window().counts.incrementAndGet(bucket);
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given percentile, or {@code -1} when fewer than
+     * {@code minSamples} samples were seen.
+     */
+    long percentile(double percentile, long minSamples) {
+        Window now = window();
+        Window before = previous;
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += now.counts.get(i) + before.counts.get(i);
+        }
+        if (total < minSamples || total == 0) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += now.counts.get(i) + before.counts.get(i);
+            if (seen >= rank) {
+                return (long) (BASE_NANOS * Math.pow(GROWTH, i));
+            }
+        }
+        return (long) (BASE_NANOS * Math.pow(GROWTH, BUCKETS - 1));
+    }
+
+    private Window window() {
+        Window window = current.get();
+        long now = System.nanoTime();
+        if (now - window.start < windowNanos) {
+            return window;
+        }
+        Window next = new Window(now);
+        if (current.compareAndSet(window, next)) {
+            previous = window;
+            return next;
+        }
+        return current.get();
+    }
+
+    private static final class Window {
+        private final long start;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.http_client_library.loadbalancer;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+import org.apache.hc.core5.net.URIAuthority;
+
+import java.io.IOException;
+
+/**
+ * Sends each attempt for a logical service to an instance chosen by its {@link ServiceLoadBalancer}.
+ * Installed behind the protocol and cache stages, so cache entries and their invalidation stay keyed by
+ * the logical {@code http://<service>} URI, and cache hits never reach an instance. The attempt is sent on
+ * a copy of the request whose target and {@code Host} header name the instance, over the instance's
+ * route, so connection pooling, per-route limits and circuit breakers all apply per instance, and retries
+ * and hedges pick an instance of their own. I/O errors
+ * and 5xx responses count as failures for outlier ejection; attempts the client aborted itself, such as
+ * a hedged attempt that lost the race, do not.
+ */
+@RequiredArgsConstructor
+public class LoadBalancerExecHandler implements ExecChainHandler {
+
+    public static final String NAME = "load-balancer";
+
+    private final LoadBalancerRegistry registry;
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain) throws IOException, HttpException {
+        ServiceLoadBalancer loadBalancer = registry.forService(scope.route.getTargetHost().getHostName());
+        if (loadBalancer == null) {
+            return chain.proceed(request, scope);
+        }
+        ServiceEndpoint endpoint = loadBalancer.choose();
+        HttpHost target = endpoint.getHost();
+        URIAuthority authority = new URIAuthority(target);
+        ClassicHttpRequest instanceRequest = ClassicRequestBuilder.copy(request)
+                .setScheme(target.getSchemeName())
+                .setAuthority(authority)
+                .setHeader(HttpHeaders.HOST, authority.toString())
+                .build();
+        HttpRoute route = scope.route.getProxyHost() != null
+                ? new HttpRoute(target, scope.route.getLocalAddress(), scope.route.getProxyHost(), URIScheme.HTTPS.same(target.getSchemeName()))
+                : new HttpRoute(target, scope.route.getLocalAddress(), URIScheme.HTTPS.same(target.getSchemeName()));
+        ExecChain.Scope instanceScope = new ExecChain.Scope(scope.exchangeId, route, scope.originalRequest, scope.execRuntime, scope.clientContext);
+
+        endpoint.onStart();
+        long start = System.nanoTime();
+        ClassicHttpResponse response;
+        try {
+            response = chain.proceed(instanceRequest, instanceScope);
+        } catch (IOException | HttpException | RuntimeException e) {
+            if (scope.execRuntime.isExecutionAborted()) {
+                loadBalancer.onCancelled(endpoint);
+            } else {
+                loadBalancer.onFailure(endpoint, System.nanoTime() - start);
+            }
+            throw e;
+        }
+        long latency = System.nanoTime() - start;
+        if (response.getCode() >= HttpStatus.SC_SERVER_ERROR) {
+            loadBalancer.onFailure(endpoint, latency);
+        } else {
+            loadBalancer.onSuccess(endpoint, latency);
+        }
+        return response;
+    }
+}
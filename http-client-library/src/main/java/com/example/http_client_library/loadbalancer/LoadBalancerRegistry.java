@@ -0,0 +1,59 @@
+package com.example.http_client_library.loadbalancer;
+
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load balancers keyed by logical service name. A request whose host is a service name (for example
+ * {@code http://orders/v1/orders}) is sent to one of that service's endpoints.
+ */
+public class LoadBalancerRegistry {
+
+    private final Map<String, ServiceLoadBalancer> services;
+
+    public LoadBalancerRegistry(Map<String, List<String>> endpoints, int failureThreshold, Duration baseEjectionTime,
+                                Duration maxEjectionTime, int maxEjectionPercent, Duration latencyDecay) {
+        Map<String, ServiceLoadBalancer> balancers = new HashMap<>();
+        endpoints.forEach((service, uris) -> {
+            if (uris.isEmpty()) {
+                throw new IllegalArgumentException("No endpoints configured for service " + service);
+            }
+            List<ServiceEndpoint> instances = new ArrayList<>(uris.size());
+            for (String uri : uris) {
+                instances.add(new ServiceEndpoint(parse(service, uri), latencyDecay.toNanos()));
+            }
+            balancers.put(service.toLowerCase(Locale.ROOT), new ServiceLoadBalancer(service, instances, failureThreshold,
+                    baseEjectionTime.toNanos(), maxEjectionTime.toNanos(), maxEjectionPercent));
+        });
+        this.services = Map.copyOf(balancers);
+    }
+
+    public ServiceLoadBalancer forService(String serviceName) {
+        return services.get(serviceName.toLowerCase(Locale.ROOT));
+    }
+
+    public Collection<ServiceLoadBalancer> getServices() {
+        return services.values();
+    }
+
+    private static HttpHost parse(String service, String uri) {
+        try {
+            HttpHost host = HttpHost.create(uri.contains("://") ? uri : URIScheme.HTTP.id + "://" + uri);
+            if (host.getPort() < 0) {
+                return new HttpHost(host.getSchemeName(), host.getHostName(), URIScheme.HTTPS.same(host.getSchemeName()) ? 443 : 80);
+            }
+            return host;
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid endpoint '" + uri + "' for service " + service, e);
+        }
+    }
+}
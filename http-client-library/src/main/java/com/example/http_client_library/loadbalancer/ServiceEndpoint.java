@@ -0,0 +1,98 @@
+package com.example.http_client_library.loadbalancer;
+
+import org.apache.hc.core5.http.HttpHost;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One instance of a load-balanced service. Tracks requests in flight, a peak-sensitive EWMA of response
+ * latency and consecutive failures. The EWMA jumps to any sample above it and otherwise decays with
+ * {@code decayNanos}; reads decay it to the current time, so an instance that stopped being picked after
+ * a slow response becomes attractive again instead of being starved.
+ */
+public class ServiceEndpoint {
+
+    private final HttpHost host;
+    private final double decayNanos;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile double latencyNanos;
+    private volatile long lastUpdateNanos = System.nanoTime();
+    private volatile long ejectedUntilNanos;
+    private int ejections;
+
+    ServiceEndpoint(HttpHost host, long decayNanos) {
+        this.host = host;
+        this.decayNanos = decayNanos;
+    }
+
+    public HttpHost getHost() {
+        return host;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public double getLatencyNanos() {
+        return decayed(System.nanoTime());
+    }
+
+    public boolean isEjected() {
+        return isEjected(System.nanoTime());
+    }
+
+    boolean isEjected(long now) {
+        return ejectedUntilNanos - now > 0;
+    }
+
+    /**
+     * Load score used for selection: expected latency weighted by the requests already queued on it.
+     */
+    double cost(long now) {
+        return (decayed(now) + 1) * (outstanding.get() + 1);
+    }
+
+    void onStart() {
+        outstanding.incrementAndGet();
+    }
+
+    void onComplete(long latency, boolean success) {
+        outstanding.decrementAndGet();
+        if (latency >= 0) {
+            recordLatency(latency);
+        }
+        if (success) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    int incrementFailures() {
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    synchronized void eject(long now, long baseEjectionNanos, long maxEjectionNanos) {
+        ejections++;
+        ejectedUntilNanos = now + Math.min(maxEjectionNanos, baseEjectionNanos * ejections);
+        consecutiveFailures.set(0);
+    }
+
+    synchronized void resetEjections() {
+        ejections = 0;
+    }
+
+    private synchronized void recordLatency(long latency) {
+        long now = System.nanoTime();
+        double current = decayed(now);
+        latencyNanos = latency > current ? latency : current + (latency - current) * (1 - weight(now));
+        lastUpdateNanos = now;
+    }
+
+    private double decayed(long now) {
+        return latencyNanos * weight(now);
+    }
+
+    private double weight(long now) {
+        return Math.exp(-Math.max(0, now - lastUpdateNanos) / decayNanos);
+    }
+}
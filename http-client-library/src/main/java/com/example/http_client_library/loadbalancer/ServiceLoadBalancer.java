@@ -0,0 +1,107 @@
+package com.example.http_client_library.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Chooses an instance of one logical service with power-of-two-choices: two random instances that are not
+ * ejected are compared by {@link ServiceEndpoint#cost} and the cheaper one wins. Instances that fail
+ * {@code failureThreshold} times in a row are ejected for a growing period, but never more than
+ * {@code maxEjectionPercent} of the instances at once.
+ */
+public class ServiceLoadBalancer {
+
+    private final String serviceName;
+    private final List<ServiceEndpoint> endpoints;
+    private final int failureThreshold;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxEjected;
+
+    ServiceLoadBalancer(String serviceName, List<ServiceEndpoint> endpoints, int failureThreshold,
+                        long baseEjectionNanos, long maxEjectionNanos, int maxEjectionPercent) {
+        this.serviceName = serviceName;
+        this.endpoints = List.copyOf(endpoints);
+        this.failureThreshold = failureThreshold;
+        this.baseEjectionNanos = baseEjectionNanos;
+        this.maxEjectionNanos = maxEjectionNanos;
+        this.maxEjected = endpoints.size() * maxEjectionPercent / 100;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public List<ServiceEndpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public ServiceEndpoint choose() {
+        int size = endpoints.size();
+        if (size == 1) {
+            return endpoints.get(0);
+        }
+        long now = System.nanoTime();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < 3; attempt++) {
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            ServiceEndpoint a = endpoints.get(first);
+            ServiceEndpoint b = endpoints.get(second);
+            boolean aEjected = a.isEjected(now);
+            boolean bEjected = b.isEjected(now);
+            if (!aEjected && !bEjected) {
+                return a.cost(now) <= b.cost(now) ? a : b;
+            }
+            if (!aEjected) {
+                return a;
+            }
+            if (!bEjected) {
+                return b;
+            }
+        }
+        ServiceEndpoint best = null;
+        for (ServiceEndpoint endpoint : endpoints) {
+            if (!endpoint.isEjected(now) && (best == null || endpoint.cost(now) < best.cost(now))) {
+                best = endpoint;
+            }
+        }
+        return best != null ? best : endpoints.get(random.nextInt(size));
+    }
+
+    void onSuccess(ServiceEndpoint endpoint, long latency) {
+        endpoint.onComplete(latency, true);
+        endpoint.resetEjections();
+    }
+
+    void onFailure(ServiceEndpoint endpoint, long latency) {
+        endpoint.onComplete(latency, false);
+        if (endpoint.incrementFailures() < failureThreshold) {
+            return;
+        }
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (endpoint.isEjected(now) || ejectedCount(now) >= maxEjected) {
+                return;
+            }
+            endpoint.eject(now, baseEjectionNanos, maxEjectionNanos);
+        }
+    }
+
+    void onCancelled(ServiceEndpoint endpoint) {
+        endpoint.onComplete(-1, false);
+    }
+
+    private int ejectedCount(long now) {
+        int ejected = 0;
+        for (ServiceEndpoint endpoint : endpoints) {
+            if (endpoint.isEjected(now)) {
+                ejected++;
+            }
+        }
+        return ejected;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.http_client_library.pool;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Publishes leased, pending and available connection counts, and the limit, for every connection pool
+ * and for each route in it. Gauges read the pool when scraped; routes are discovered on a fixed interval
+ * because pools create them lazily. Each route is tagged with its target and proxy. Route gauges read
+ * {@code NaN} once the pool drops the route and are removed by the next discovery pass. At most
+ * {@code maxRoutes} routes are tagged at a time; the pool totals still cover the rest.
+ */
+public class ConnectionPoolMetrics implements MeterBinder, AutoCloseable {
+
+    private final Map<String, ConnPoolControl<HttpRoute>> pools;
+    private final Duration routeDiscoveryInterval;
+    private final int maxRoutes;
+    private final Map<RouteKey, List<Meter>> registeredRoutes = new ConcurrentHashMap<>();
+    private ScheduledExecutorService discovery;
+
+    public ConnectionPoolMetrics(Map<String, ConnPoolControl<HttpRoute>> pools, Duration routeDiscoveryInterval, int maxRoutes) {
+        this.pools = Map.copyOf(pools);
+        this.routeDiscoveryInterval = routeDiscoveryInterval;
+        this.maxRoutes = maxRoutes;
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        pools.forEach((client, pool) ->
+                register(registry, "http.client.pool.total", Tags.of("client", client), pool, ConnPoolControl::getTotalStats));
+        registerRoutes(registry);
+        if (discovery == null) {
+            discovery = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "http-pool-metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = routeDiscoveryInterval.toMillis();
+            discovery.scheduleWithFixedDelay(() -> registerRoutes(registry), interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (discovery != null) {
+            discovery.shutdownNow();
+        }
+    }
+
+    private synchronized void registerRoutes(MeterRegistry registry) {
+        Map<RouteKey, ConnPoolControl<HttpRoute>> current = new LinkedHashMap<>();
+        pools.forEach((client, pool) -> pool.getRoutes().forEach(route -> current.put(new RouteKey(client, route), pool)));
+        registeredRoutes.entrySet().removeIf(entry -> {
+            if (current.containsKey(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().forEach(registry::remove);
+            return true;
+        });
+        current.forEach((key, pool) -> {
+            if (registeredRoutes.size() < maxRoutes && !registeredRoutes.containsKey(key)) {
+                HttpHost proxy = key.route().getProxyHost();
+                Tags tags = Tags.of("client", key.client(), "route", key.route().getTargetHost().toURI(),
+                        "proxy", proxy != null ? proxy.toURI() : "none");
+                registeredRoutes.put(key, register(registry, "http.client.pool", tags, pool, p -> statsIfPooled(p, key.route())));
+            }
+        });
+    }
+
+    /**
+     * {@code getStats(route)} creates the route in the pool when it is missing, which would bring back a
+     * route the pool has just dropped; a dropped route reads as {@code NaN} until discovery removes it.
+     */
+    private static PoolStats statsIfPooled(ConnPoolControl<HttpRoute> pool, HttpRoute route) {
+        return pool.getRoutes().contains(route) ? pool.getStats(route) : null;
+    }
+
+    private static List<Meter> register(MeterRegistry registry, String prefix, Tags tags, ConnPoolControl<HttpRoute> pool,
+                                        Function<ConnPoolControl<HttpRoute>, PoolStats> stats) {
+        return List.of(
+                gauge(registry, prefix + ".connections", tags.and("state", "leased"), pool, stats, PoolStats::getLeased),
+                gauge(registry, prefix + ".connections", tags.and("state", "available"), pool, stats, PoolStats::getAvailable),
+                gauge(registry, prefix + ".pending", tags, pool, stats, PoolStats::getPending),
+                gauge(registry, prefix + ".max", tags, pool, stats, PoolStats::getMax));
+    }
+
+    private static Meter gauge(MeterRegistry registry, String name, Tags tags, ConnPoolControl<HttpRoute> pool,
+                               Function<ConnPoolControl<HttpRoute>, PoolStats> stats, ToIntFunction<PoolStats> value) {
+        return Gauge.builder(name, pool, p -> {
+            PoolStats current = stats.apply(p);
+            return current != null ? value.applyAsInt(current) : Double.NaN;
+        }).tags(tags).register(registry);
+    }
+
+    private record RouteKey(String client, HttpRoute route) {
+    }
+}
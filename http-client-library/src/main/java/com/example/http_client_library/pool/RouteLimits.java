@@ -0,0 +1,53 @@
+package com.example.http_client_library.pool;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves per-host connection limits to the {@link HttpRoute}s the connection pools are keyed by. A key
+ * with a scheme ({@code https://api.example.com}) selects that scheme only; a bare host name applies to
+ * both http and https. Missing ports default to the scheme's port.
+ */
+public final class RouteLimits {
+
+    private RouteLimits() {
+    }
+
+    public static Map<HttpRoute, Integer> resolve(Map<String, Integer> maxConnectionsPerHost) {
+        Map<HttpRoute, Integer> routes = new HashMap<>();
+        maxConnectionsPerHost.forEach((host, max) -> {
+            if (host.contains("://")) {
+                routes.put(route(parse(host)), max);
+            } else {
+                routes.put(route(parse(URIScheme.HTTP.id + "://" + host)), max);
+                routes.put(route(parse(URIScheme.HTTPS.id + "://" + host)), max);
+            }
+        });
+        return routes;
+    }
+
+    /**
+     * The direct route the pool uses for {@code target}, with the scheme's default port filled in.
+     */
+    public static HttpRoute route(HttpHost target) {
+        HttpHost host = target;
+        if (target.getPort() < 0) {
+            int port = URIScheme.HTTPS.same(target.getSchemeName()) ? 443 : 80;
+            host = new HttpHost(target.getSchemeName(), target.getHostName(), port);
+        }
+        return new HttpRoute(host, null, URIScheme.HTTPS.same(host.getSchemeName()));
+    }
+
+    private static HttpHost parse(String host) {
+        try {
+            return HttpHost.create(host);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid host in http.client.pool.max-connections-per-host: " + host, e);
+        }
+    }
+}
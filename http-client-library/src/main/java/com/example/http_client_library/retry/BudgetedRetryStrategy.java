@@ -0,0 +1,83 @@
+package com.example.http_client_library.retry;
+
+import com.example.http_client_library.circuitbreaker.CircuitBreakerOpenException;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries idempotent requests on I/O errors and retryable status codes. Delays follow exponential
+ * backoff with full jitter unless the server sent {@code Retry-After}; a {@code Retry-After} longer than
+ * the maximum delay ends the retries. Every retry must also be granted by the shared {@link RetryBudget}.
+ */
+public class BudgetedRetryStrategy extends DefaultHttpRequestRetryStrategy {
+
+    private final RetryBudget retryBudget;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public BudgetedRetryStrategy(int maxRetries, Duration baseDelay, Duration maxDelay, Collection<Integer> retryableStatusCodes, RetryBudget retryBudget) {
+        super(maxRetries,
+                TimeValue.ofMilliseconds(baseDelay.toMillis()),
+                List.of(InterruptedIOException.class, UnknownHostException.class, ConnectException.class,
+                        NoRouteToHostException.class, SSLException.class, CircuitBreakerOpenException.class),
+                retryableStatusCodes);
+        this.retryBudget = retryBudget;
+        this.baseDelayMillis = baseDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+    }
+
+    @Override
+    public boolean retryRequest(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+        return super.retryRequest(request, exception, execCount, context) && retryBudget.tryAcquireRetry();
+    }
+
+    @Override
+    public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+        HttpRequest request = HttpClientContext.castOrCreate(context).getRequest();
+        if (request == null || !handleAsIdempotent(request) || !super.retryRequest(response, execCount, context)) {
+            return false;
+        }
+        if (response.containsHeader(HttpHeaders.RETRY_AFTER)
+                && super.getRetryInterval(response, execCount, context).toMilliseconds() > maxDelayMillis) {
+            return false;
+        }
+        return retryBudget.tryAcquireRetry();
+    }
+
+    @Override
+    public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+        if (response.containsHeader(HttpHeaders.RETRY_AFTER)) {
+            return super.getRetryInterval(response, execCount, context);
+        }
+        return backoff(execCount);
+    }
+
+    @Override
+    public TimeValue getRetryInterval(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+        return backoff(execCount);
+    }
+
+    private TimeValue backoff(int execCount) {
+        long ceiling = baseDelayMillis << Math.min(execCount - 1, 20);
+        if (ceiling <= 0 || ceiling > maxDelayMillis) {
+            ceiling = maxDelayMillis;
+        }
+        return TimeValue.ofMilliseconds(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+}
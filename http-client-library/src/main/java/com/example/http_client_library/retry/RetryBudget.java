@@ -0,0 +1,68 @@
+package com.example.http_client_library.retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Caps retries at a fraction of the requests seen over a sliding window, plus a small fixed allowance
+ * per second so low-traffic clients can still retry. Counts live in one-second buckets updated with
+ * atomic operations, so the budget adds no locking to the request path.
+ */
+public class RetryBudget {
+
+    private final double retryRatio;
+    private final long minRetriesPerWindow;
+    private final int windowSeconds;
+    private final AtomicLongArray bucketSecond;
+    private final AtomicLongArray requests;
+    private final AtomicLongArray retries;
+
+    public RetryBudget(double retryRatio, int minRetriesPerSecond, Duration window) {
+        this.retryRatio = retryRatio;
+        this.windowSeconds = (int) Math.max(1, window.toSeconds());
+        this.minRetriesPerWindow = (long) minRetriesPerSecond * windowSeconds;
+        this.bucketSecond = new AtomicLongArray(windowSeconds);
+        this.requests = new AtomicLongArray(windowSeconds);
+        this.retries = new AtomicLongArray(windowSeconds);
+    }
+
+    public void recordRequest() {
+        requests.incrementAndGet(bucket(currentSecond()));
+    }
+
+    /**
+     * Withdraws one retry from the budget, returning {@code false} when the window has already used
+     * its share and the retry should not be attempted.
+     */
+    public boolean tryAcquireRetry() {
+        long now = currentSecond();
+        long totalRequests = 0;
+        long totalRetries = 0;
+        for (int i = 0; i < windowSeconds; i++) {
+            if (now - bucketSecond.get(i) < windowSeconds) {
+                totalRequests += requests.get(i);
+                totalRetries += retries.get(i);
+            }
+        }
+        long allowed = Math.max(minRetriesPerWindow, (long) (totalRequests * retryRatio));
+        if (totalRetries >= allowed) {
+            return false;
+        }
+        retries.incrementAndGet(bucket(now));
+        return true;
+    }
+
+    private int bucket(long second) {
+        int index = (int) (second % windowSeconds);
+        long stamp = bucketSecond.get(index);
+        if (stamp != second && bucketSecond.compareAndSet(index, stamp, second)) {
+            requests.set(index, 0);
+            retries.set(index, 0);
+        }
+        return index;
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.http_client_library.retry;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+
+import java.io.IOException;
+
+/**
+ * Counts each logical request toward the {@link RetryBudget}. Installed ahead of the retry stage so
+ * retries themselves are not counted as traffic.
+ */
+@RequiredArgsConstructor
+public class RetryBudgetExecHandler implements ExecChainHandler, AsyncExecChainHandler {
+
+    public static final String NAME = "retry-budget";
+
+    private final RetryBudget retryBudget;
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain) throws IOException, HttpException {
+        retryBudget.recordRequest();
+        return chain.proceed(request, scope);
+    }
+
+    @Override
+    public void execute(HttpRequest request, AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope,
+                        AsyncExecChain chain, AsyncExecCallback asyncExecCallback) throws HttpException, IOException {
+        retryBudget.recordRequest();
+        chain.proceed(request, entityProducer, scope, asyncExecCallback);
+    }
+}
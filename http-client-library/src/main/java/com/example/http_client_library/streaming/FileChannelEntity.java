@@ -0,0 +1,71 @@
+package com.example.http_client_library.streaming;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Repeatable request entity that streams a file through a pooled buffer. The file is reopened on every
+ * write, so retried requests resend it from the start.
+ */
+public class FileChannelEntity extends AbstractHttpEntity {
+
+    private final Path file;
+    private final ByteBufferPool bufferPool;
+
+    public FileChannelEntity(Path file, ContentType contentType, ByteBufferPool bufferPool) {
+        super(contentType, null);
+        this.file = file;
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public long getContentLength() {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return Files.newInputStream(file);
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        ByteBuffer buffer = bufferPool.acquire();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int read;
+            while ((read = channel.read(buffer.clear())) >= 0) {
+                out.write(buffer.array(), buffer.arrayOffset(), read);
+            }
+            out.flush();
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.http_client_library.streaming;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * One-shot request entity that streams a channel through a pooled buffer. With an unknown length
+ * ({@code -1}) the body is sent chunked. The channel is read once and closed with the entity, so requests
+ * using it cannot be retried.
+ */
+public class ReadableChannelEntity extends AbstractHttpEntity {
+
+    private final ReadableByteChannel channel;
+    private final long length;
+    private final ByteBufferPool bufferPool;
+    private long transferred;
+
+    public ReadableChannelEntity(ReadableByteChannel channel, long length, ContentType contentType, ByteBufferPool bufferPool) {
+        super(contentType, null, length < 0);
+        this.channel = channel;
+        this.length = length;
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public long getContentLength() {
+        return length;
+    }
+
+    public long getTransferred() {
+        return transferred;
+    }
+
+    @Override
+    public InputStream getContent() {
+        return Channels.newInputStream(channel);
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        ByteBuffer buffer = bufferPool.acquire();
+        try {
+            int read;
+            while ((read = channel.read(buffer.clear())) >= 0) {
+                out.write(buffer.array(), buffer.arrayOffset(), read);
+                transferred += read;
+            }
+            out.flush();
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return false;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
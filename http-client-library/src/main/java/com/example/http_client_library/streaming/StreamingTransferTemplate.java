@@ -0,0 +1,149 @@
+package com.example.http_client_library.streaming;
+
+import com.example.http_client_library.coalescing.RequestCoalescingExecHandler;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpResponseException;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.classic.methods.HttpPut;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Large-body transfers over the shared {@link HttpClient} that never hold a whole body in memory.
+ * Downloads stream the response straight into a channel, using {@link FileChannel#transferFrom} when the
+ * target is a file; uploads stream from a file or channel. Copies go through a bounded {@link ByteBufferPool}.
+ * Responses with a status of 300 or above fail with {@link HttpResponseException}.
+ */
+@RequiredArgsConstructor
+public class StreamingTransferTemplate {
+
+    private final HttpClient httpClient;
+    private final ByteBufferPool bufferPool;
+
+    public TransferResult download(URI uri, Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return download(new HttpGet(uri), channel);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+    }
+
+    public TransferResult download(URI uri, WritableByteChannel target) throws IOException {
+        return download(new HttpGet(uri), target);
+    }
+
+    public TransferResult download(ClassicHttpRequest request, WritableByteChannel target) throws IOException {
+        return httpClient.execute(request, streamingContext(), response -> {
+            checkStatus(response);
+            HttpEntity entity = response.getEntity();
+            return new TransferResult(response.getCode(), entity != null ? copy(entity, target) : 0);
+        });
+    }
+
+    public TransferResult put(URI uri, Path source, ContentType contentType) throws IOException {
+        return upload(new HttpPut(uri), source, contentType);
+    }
+
+    public TransferResult post(URI uri, Path source, ContentType contentType) throws IOException {
+        return upload(new HttpPost(uri), source, contentType);
+    }
+
+    public TransferResult upload(ClassicHttpRequest request, Path source, ContentType contentType) throws IOException {
+        FileChannelEntity entity = new FileChannelEntity(source, contentType, bufferPool);
+        request.setEntity(entity);
+        int status = send(request);
+        return new TransferResult(status, entity.getContentLength());
+    }
+
+    /**
+     * Streams {@code length} bytes from the channel, or the whole channel chunked when {@code length} is
+     * {@code -1}. The channel is closed once the request has been sent.
+     */
+    public TransferResult upload(ClassicHttpRequest request, ReadableByteChannel source, long length, ContentType contentType) throws IOException {
+        ReadableChannelEntity entity = new ReadableChannelEntity(source, length, contentType, bufferPool);
+        request.setEntity(entity);
+        try {
+            int status = send(request);
+            return new TransferResult(status, entity.getTransferred());
+        } finally {
+            entity.close();
+        }
+    }
+
+    private int send(ClassicHttpRequest request) throws IOException {
+        return httpClient.execute(request, streamingContext(), response -> {
+            checkStatus(response);
+            EntityUtils.consume(response.getEntity());
+            return response.getCode();
+        });
+    }
+
+    private long copy(HttpEntity entity, WritableByteChannel target) throws IOException {
+        try (InputStream in = entity.getContent()) {
+            if (target instanceof FileChannel file) {
+                return transferFrom(in, file);
+            }
+            ByteBuffer buffer = bufferPool.acquire();
+            try {
+                long total = 0;
+                int read;
+                while ((read = in.read(buffer.array(), buffer.arrayOffset(), buffer.capacity())) >= 0) {
+                    buffer.clear().limit(read);
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    total += read;
+                }
+                return total;
+            } finally {
+                bufferPool.release(buffer);
+            }
+        }
+    }
+
+    private static long transferFrom(InputStream in, FileChannel file) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(in);
+        long start = file.position();
+        long position = start;
+        long transferred;
+        while ((transferred = file.transferFrom(source, position, Long.MAX_VALUE)) > 0) {
+            position += transferred;
+        }
+        file.position(position);
+        return position - start;
+    }
+
+    private static void checkStatus(ClassicHttpResponse response) throws IOException {
+        if (response.getCode() >= HttpStatus.SC_REDIRECTION) {
+            EntityUtils.consume(response.getEntity());
+            throw new HttpResponseException(response.getCode(), response.getReasonPhrase());
+        }
+    }
+
+    private static HttpClientContext streamingContext() {
+        HttpClientContext context = HttpClientContext.create();
+        context.setAttribute(RequestCoalescingExecHandler.BYPASS_ATTRIBUTE, Boolean.TRUE);
+        return context;
+    }
+}
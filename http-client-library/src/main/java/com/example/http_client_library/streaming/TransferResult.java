@@ -0,0 +1,7 @@
+package com.example.http_client_library.streaming;
+
+/**
+ * Outcome of a streamed transfer: the response status and the number of body bytes moved.
+ */
+public record TransferResult(int statusCode, long bytes) {
+}
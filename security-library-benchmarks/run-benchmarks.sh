@@ -0,0 +1,14 @@
+#!/usr/bin/env bash
+# Runs every benchmark single-threaded and with one thread per CPU, with the GC profiler,
+# writing JSON results labelled by version: ./run-benchmarks.sh [label] [extra JMH options]
+set -euo pipefail
+
+cd "$(dirname "$0")"
+LABEL="${1:-$(git rev-parse --short HEAD)}"
+shift || true
+
+mvn -B -q package -DskipTests
+mkdir -p results
+for threads in 1 "$(nproc)"; do
+    java -jar target/benchmarks.jar -t "$threads" -prof gc -rf json -rff "results/${LABEL}-t${threads}.json" "$@"
+done
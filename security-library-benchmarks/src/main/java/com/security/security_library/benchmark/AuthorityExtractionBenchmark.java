@@ -0,0 +1,53 @@
+package com.security.security_library.benchmark;
+
+import com.security.security_library.providers.AuthorityPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AuthorityExtractionBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int roleCount;
+
+    private AuthorityPool authorityPool;
+    private List<Object> rolesClaim;
+    private String scopeClaim;
+
+    @Setup
+    public void setUp() {
+        authorityPool = new AuthorityPool();
+        // Parsed claims hand over a fresh mutable list per token, not the list the pool cached.
+        rolesClaim = new ArrayList<>(BenchmarkTokens.roles(roleCount));
+        scopeClaim = String.join(" ", BenchmarkTokens.roles(roleCount));
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> rolesClaim() {
+        return authorityPool.forRoles(rolesClaim);
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> scopeClaim() {
+        return authorityPool.forScope(scopeClaim);
+    }
+}
@@ -0,0 +1,57 @@
+package com.security.security_library.benchmark;
+
+import com.security.security_library.keys.SigningKeyRegistry;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+final class BenchmarkTokens {
+
+    private BenchmarkTokens() {
+    }
+
+    static KeyPair keyPair() {
+        return Jwts.SIG.RS256.keyPair().build();
+    }
+
+    static JwtParser parser(KeyPair keyPair) {
+        SigningKeyRegistry registry = new SigningKeyRegistry(keyPair.getPublic(), null, Duration.ofSeconds(30));
+        return Jwts.parser()
+                .keyLocator(registry)
+                .build();
+    }
+
+    /**
+     * Builds a token carrying the usual identity claims plus {@code extraClaims} filler claims,
+     * valid for one hour so it never expires during a run.
+     */
+    static String token(KeyPair keyPair, int extraClaims, List<String> roles) {
+        Instant now = Instant.now();
+        JwtBuilder builder = Jwts.builder()
+                .subject("benchmark-user")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(Duration.ofHours(1))))
+                .claim("email", "benchmark-user@example.com")
+                .claim("userId", "42")
+                .claim("roles", roles);
+        for (int i = 0; i < extraClaims; i++) {
+            builder.claim("claim" + i, "value-" + i);
+        }
+        return builder.signWith(keyPair.getPrivate()).compact();
+    }
+
+    static List<String> roles(int count) {
+        List<String> roles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            roles.add(i == 0 ? "USER" : "ROLE" + i);
+        }
+        return roles;
+    }
+}
@@ -0,0 +1,70 @@
+package com.security.security_library.benchmark;
+
+import com.security.security_library.filter.CustomAuthenticationFilter;
+import com.security.security_library.filter.CustomAuthorizationFilter;
+import com.security.security_library.metrics.AuthenticationMetrics;
+import com.security.security_library.providers.JwtAuthenticationProvider;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.KeyPair;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One protected request through {@link CustomAuthenticationFilter} and {@link CustomAuthorizationFilter},
+ * wired the way {@code SecurityFilterConfig} wires them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FilterChainBenchmark {
+
+    @Param({"0", "16", "64"})
+    private int extraClaims;
+
+    private CustomAuthenticationFilter authenticationFilter;
+    private CustomAuthorizationFilter authorizationFilter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        KeyPair keyPair = BenchmarkTokens.keyPair();
+        JwtAuthenticationProvider provider = new JwtAuthenticationProvider(BenchmarkTokens.parser(keyPair), null, null, AuthenticationMetrics.NOOP);
+        authenticationFilter = new CustomAuthenticationFilter("/**");
+        authenticationFilter.setAuthenticationManager(new ProviderManager(provider));
+        authorizationFilter = new CustomAuthorizationFilter(Map.of("GET /v1/orders/{id}", "USER"));
+        authorizationHeader = "Bearer " + BenchmarkTokens.token(keyPair, extraClaims, BenchmarkTokens.roles(2));
+    }
+
+    @Benchmark
+    public void protectedRequest(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/orders/42");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain application = (req, res) -> blackhole.consume(req);
+        try {
+            authenticationFilter.doFilter(request, response, (req, res) -> authorizationFilter.doFilter(req, res, application));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
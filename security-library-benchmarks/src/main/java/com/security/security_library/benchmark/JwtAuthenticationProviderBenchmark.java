@@ -0,0 +1,60 @@
+package com.security.security_library.benchmark;
+
+import com.security.security_library.cache.VerifiedTokenCache;
+import com.security.security_library.metrics.AuthenticationMetrics;
+import com.security.security_library.providers.JwtAuthenticationProvider;
+import com.security.security_library.token.JwtAuthenticationToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full {@code authenticate} call: signature verification, claim validation, authority extraction
+ * and principal construction, with and without the verified-token cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JwtAuthenticationProviderBenchmark {
+
+    @Param({"0", "16", "64"})
+    private int extraClaims;
+
+    @Param({"1", "8"})
+    private int roleCount;
+
+    @Param({"false", "true"})
+    private boolean tokenCache;
+
+    private JwtAuthenticationProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        KeyPair keyPair = BenchmarkTokens.keyPair();
+        VerifiedTokenCache cache = tokenCache ? new VerifiedTokenCache(10000, Duration.ofMinutes(5), 16) : null;
+        provider = new JwtAuthenticationProvider(BenchmarkTokens.parser(keyPair), cache, null, AuthenticationMetrics.NOOP);
+        token = BenchmarkTokens.token(keyPair, extraClaims, BenchmarkTokens.roles(roleCount));
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return provider.authenticate(new JwtAuthenticationToken(token, null));
+    }
+}
@@ -0,0 +1,45 @@
+package com.security.security_library.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JwtParsingBenchmark {
+
+    @Param({"0", "16", "64"})
+    private int extraClaims;
+
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        KeyPair keyPair = BenchmarkTokens.keyPair();
+        parser = BenchmarkTokens.parser(keyPair);
+        token = BenchmarkTokens.token(keyPair, extraClaims, BenchmarkTokens.roles(2));
+    }
+
+    @Benchmark
+    public Claims parseAndVerifySignature() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,68 @@
+package com.security.security_library.benchmark;
+
+import com.security.security_library.authorization.RouteAuthorizationIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RouteAuthorizationBenchmark {
+
+    private static final int PATHS = 256;
+
+    @Param({"10", "100", "1000"})
+    private int ruleCount;
+
+    private RouteAuthorizationIndex index;
+    private String[] paths;
+    private List<GrantedAuthority> authorities;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+    }
+
+    @Setup
+    public void setUp() {
+        Map<String, String> requestRoleMap = new LinkedHashMap<>();
+        for (int i = 0; i < ruleCount; i++) {
+            requestRoleMap.put("GET /api/v" + (i % 3) + "/resource" + i + "/{id}", "ROLE" + (i % 8));
+            requestRoleMap.put("POST /api/v" + (i % 3) + "/resource" + i + "/**", "ADMIN");
+        }
+        index = RouteAuthorizationIndex.compile(requestRoleMap);
+
+        paths = new String[PATHS];
+        for (int i = 0; i < PATHS; i++) {
+            int rule = (i * 7919) % ruleCount;
+            paths[i] = "/api/v" + (rule % 3) + "/resource" + rule + "/" + i;
+        }
+        authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ROLE3"));
+    }
+
+    @Benchmark
+    public boolean matchAndCheck(Cursor cursor) {
+        String path = paths[cursor.next++ & (PATHS - 1)];
+        RouteAuthorizationIndex.Rule rule = index.match("GET", path, 0);
+        return rule == null || index.isGranted(rule, authorities);
+    }
+}
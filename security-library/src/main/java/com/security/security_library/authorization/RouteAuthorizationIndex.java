@@ -0,0 +1,283 @@
+package com.security.security_library.authorization;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Authorization table compiled once from {@code app.request-role-map}. Keys are path patterns,
+ * optionally prefixed with HTTP methods ({@code "GET,HEAD /v1/orders/*"}); values are comma separated
+ * roles. Patterns are indexed in a segment trie where {@code *} or {@code {var}} matches one segment and
+ * a trailing {@code **} matches the rest of the path. Roles are interned to ids and stored as bitsets, so
+ * a lookup walks the path once and checks authorities without allocating.
+ */
+public final class RouteAuthorizationIndex {
+
+    private static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE"};
+    private static final int GET = 0;
+    private static final int HEAD = 1;
+    private static final int ANY_METHOD = METHODS.length;
+
+    private final Node root;
+    private final Map<String, Integer> roleIds;
+
+    private RouteAuthorizationIndex(Node root, Map<String, Integer> roleIds) {
+        this.root = root;
+        this.roleIds = roleIds;
+    }
+
+    public static RouteAuthorizationIndex compile(Map<String, String> requestRoleMap) {
+        Map<String, Integer> roleIds = new HashMap<>();
+        Node root = new Node();
+        if (requestRoleMap != null) {
+            requestRoleMap.forEach((route, roles) -> addRule(root, roleIds, route, roles));
+        }
+        root.freeze();
+        return new RouteAuthorizationIndex(root, Map.copyOf(roleIds));
+    }
+
+    /**
+     * Returns the rule protecting the given request path, or {@code null} when the path is not protected.
+     * The path must already be decoded, as the handler mapping will see it. Matching starts at
+     * {@code offset} so callers can skip a prefix without a substring. A {@code HEAD} request without a
+     * {@code HEAD} rule is matched against the {@code GET} rule, as Spring serves it with the GET handler.
+     */
+    public Rule match(String method, String path, int offset) {
+        return match(root, path, offset, methodIndex(method));
+    }
+
+    public boolean isGranted(Rule rule, Collection<? extends GrantedAuthority> authorities) {
+        if (authorities == null) {
+            return false;
+        }
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+            if (name == null) {
+                continue;
+            }
+            Integer roleId = roleIds.get(name);
+            if (roleId == null) {
+                roleId = roleIds.get(name.toUpperCase(Locale.ROOT));
+            }
+            if (roleId != null && rule.roles.get(roleId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Rule match(Node node, String path, int pos, int method) {
+        int length = path.length();
+        while (pos < length && path.charAt(pos) == '/') {
+            pos++;
+        }
+        if (pos >= length) {
+            Rule rule = select(node.rules, method);
+            return rule != null ? rule : select(node.remainder, method);
+        }
+        int end = path.indexOf('/', pos);
+        if (end < 0) {
+            end = length;
+        }
+        Node literal = node.literal(path, pos, end);
+        if (literal != null) {
+            Rule rule = match(literal, path, end, method);
+            if (rule != null) {
+                return rule;
+            }
+        }
+        if (node.wildcard != null) {
+            Rule rule = match(node.wildcard, path, end, method);
+            if (rule != null) {
+                return rule;
+            }
+        }
+        return select(node.remainder, method);
+    }
+
+    private static Rule select(Rule[] rules, int method) {
+        if (rules == null) {
+            return null;
+        }
+        Rule rule = method < ANY_METHOD ? rules[method] : null;
+        if (rule == null && method == HEAD) {
+            rule = rules[GET];
+        }
+        return rule != null ? rule : rules[ANY_METHOD];
+    }
+
+    private static int methodIndex(String method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return i;
+            }
+        }
+        return ANY_METHOD;
+    }
+
+    private static void addRule(Node root, Map<String, Integer> roleIds, String route, String roles) {
+        String pattern = route.trim();
+        String methods = null;
+        int space = pattern.indexOf(' ');
+        if (space > 0) {
+            methods = pattern.substring(0, space);
+            pattern = pattern.substring(space + 1).trim();
+        }
+
+        Rule rule = new Rule(route, internRoles(roleIds, route, roles));
+        Node node = root;
+        String[] segments = pattern.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.equals("**")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' is only supported as the last segment: " + route);
+                }
+                node.remainder = register(node.remainder, methods, rule);
+                return;
+            }
+            if (segment.equals("*") || (segment.startsWith("{") && segment.endsWith("}"))) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+            } else {
+                node = node.building.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        node.rules = register(node.rules, methods, rule);
+    }
+
+    private static Rule[] register(Rule[] rules, String methods, Rule rule) {
+        Rule[] result = rules != null ? rules : new Rule[ANY_METHOD + 1];
+        if (methods == null) {
+            put(result, ANY_METHOD, rule);
+            return result;
+        }
+        for (String method : methods.split(",")) {
+            int index = methodIndex(method.trim().toUpperCase(Locale.ROOT));
+            if (index == ANY_METHOD && !method.trim().equals("*")) {
+                throw new IllegalArgumentException("Unsupported HTTP method '" + method + "' in " + rule.route);
+            }
+            put(result, index, rule);
+        }
+        return result;
+    }
+
+    private static void put(Rule[] rules, int index, Rule rule) {
+        if (rules[index] != null) {
+            throw new IllegalArgumentException("Duplicate authorization rule: " + rules[index].route + " and " + rule.route);
+        }
+        rules[index] = rule;
+    }
+
+    private static BitSet internRoles(Map<String, Integer> roleIds, String route, String roles) {
+        BitSet roleSet = new BitSet();
+        if (roles != null) {
+            for (String role : roles.split(",")) {
+                String name = role.trim().toUpperCase(Locale.ROOT);
+                if (name.startsWith("ROLE_")) {
+                    name = name.substring(5);
+                }
+                if (name.isEmpty()) {
+                    continue;
+                }
+                Integer roleId = roleIds.get(name);
+                if (roleId == null) {
+                    roleId = roleIds.size() / 2;
+                    roleIds.put(name, roleId);
+                    roleIds.put("ROLE_" + name, roleId);
+                }
+                roleSet.set(roleId);
+            }
+        }
+        if (roleSet.isEmpty()) {
+            throw new IllegalArgumentException("No roles configured for route " + route);
+        }
+        return roleSet;
+    }
+
+    public static final class Rule {
+        private final String route;
+        private final BitSet roles;
+
+        private Rule(String route, BitSet roles) {
+            this.route = route;
+            this.roles = roles;
+        }
+
+        public String getRoute() {
+            return route;
+        }
+    }
+
+    private static final class Node {
+        private Map<String, Node> building = new LinkedHashMap<>();
+        private int[] hashes;
+        private String[] names;
+        private Node[] children;
+        private int mask;
+        private Node wildcard;
+        private Rule[] rules;
+        private Rule[] remainder;
+
+        Node literal(String path, int start, int end) {
+            if (names == null) {
+                return null;
+            }
+            int hash = hash(path, start, end);
+            int length = end - start;
+            for (int i = spread(hash) & mask; names[i] != null; i = (i + 1) & mask) {
+                if (hashes[i] == hash && names[i].length() == length && path.regionMatches(start, names[i], 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        void freeze() {
+            if (!building.isEmpty()) {
+                int capacity = Integer.highestOneBit(building.size() * 2 - 1) << 1;
+                hashes = new int[capacity];
+                names = new String[capacity];
+                children = new Node[capacity];
+                mask = capacity - 1;
+                building.forEach((name, child) -> {
+                    int hash = name.hashCode();
+                    int i = spread(hash) & mask;
+                    while (names[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    hashes[i] = hash;
+                    names[i] = name;
+                    children[i] = child;
+                    child.freeze();
+                });
+            }
+            building = null;
+            if (wildcard != null) {
+                wildcard.freeze();
+            }
+        }
+
+        private static int hash(String path, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+            return hash;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
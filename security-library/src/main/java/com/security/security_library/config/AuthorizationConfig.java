@@ -0,0 +1,17 @@
+package com.security.security_library.config;
+
+import com.security.security_library.authorization.RouteAuthorizationIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class AuthorizationConfig {
+
+    @Bean
+    public RouteAuthorizationIndex routeAuthorizationIndex(@Value("#{${app.request-role-map}}") Map<String, String> requestRoleMap) {
+        return RouteAuthorizationIndex.compile(requestRoleMap);
+    }
+}
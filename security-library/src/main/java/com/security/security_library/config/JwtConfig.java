@@ -1,21 +1,37 @@
 package com.security.security_library.config;
 
+import com.security.security_library.cache.VerifiedTokenCache;
+import com.security.security_library.keys.SigningKeyRegistry;
+import com.security.security_library.revocation.TokenRevocationRegistry;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.util.StringUtils;
 
+import java.nio.file.Path;
 import java.security.KeyFactory;
 import java.security.PublicKey;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
 
 @Configuration
+@EnableConfigurationProperties(JwtProperties.class)
 public class JwtConfig {
 
-    @Value("${jwt.public-key}")
+    @Value("${jwt.public-key:}")
     private String publicKey;
 
     @Bean
+    @Conditional(PublicKeyCondition.class)
     public PublicKey publicKey() throws Exception {
         byte[] decoded = Base64.getDecoder().decode(publicKey);
         X509EncodedKeySpec spec = new X509EncodedKeySpec(decoded);
@@ -23,4 +39,42 @@ public class JwtConfig {
 
         return keyFactory.generatePublic(spec);
     }
+
+    @Bean
+    public SigningKeyRegistry signingKeyRegistry(ObjectProvider<PublicKey> publicKey, JwtProperties jwtProperties) {
+        JwtProperties.Jwks jwks = jwtProperties.getJwks();
+        Path location = StringUtils.hasText(jwks.getLocation()) ? Path.of(jwks.getLocation()) : null;
+        return new SigningKeyRegistry(publicKey.getIfAvailable(), location, jwks.getRefreshInterval());
+    }
+
+    @Bean
+    public JwtParser jwtParser(SigningKeyRegistry signingKeyRegistry) {
+        return Jwts.parser()
+                .keyLocator(signingKeyRegistry)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jwt.cache", name = "enabled", havingValue = "true")
+    public VerifiedTokenCache verifiedTokenCache(JwtProperties jwtProperties) {
+        JwtProperties.Cache cache = jwtProperties.getCache();
+        return new VerifiedTokenCache(cache.getMaxSize(), cache.getTtl(), cache.getConcurrencyLevel());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jwt.revocation", name = "location")
+    public TokenRevocationRegistry tokenRevocationRegistry(JwtProperties jwtProperties) {
+        JwtProperties.Revocation revocation = jwtProperties.getRevocation();
+        return new TokenRevocationRegistry(Path.of(revocation.getLocation()), revocation.getRefreshInterval(), revocation.getFalsePositiveProbability());
+    }
+
+    /**
+     * Matches when {@code jwt.public-key} has a value; an empty {@code jwt.public-key=} counts as not set.
+     */
+    static class PublicKeyCondition implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return StringUtils.hasText(context.getEnvironment().getProperty("jwt.public-key"));
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package com.security.security_library.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+    private Cache cache = new Cache();
+    private Jwks jwks = new Jwks();
+    private Revocation revocation = new Revocation();
+
+    @Data
+    public static class Cache {
+        private boolean enabled = false;
+        private int maxSize = 10000;
+        private Duration ttl = Duration.ofMinutes(5);
+        private int concurrencyLevel = 16;
+    }
+
+    @Data
+    public static class Jwks {
+        private String location;
+        private Duration refreshInterval = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Revocation {
+        private String location;
+        private Duration refreshInterval = Duration.ofSeconds(10);
+        private double falsePositiveProbability = 0.01;
+    }
+}
@@ -0,0 +1,39 @@
+package com.security.security_library.config;
+
+import com.security.security_library.cache.VerifiedTokenCache;
+import com.security.security_library.metrics.AuthenticationMetrics;
+import com.security.security_library.metrics.MicrometerAuthenticationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MicrometerMetricsConfig {
+
+        @Bean
+        public AuthenticationMetrics authenticationMetrics(ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<VerifiedTokenCache> tokenCache) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return AuthenticationMetrics.NOOP;
+            }
+            return new MicrometerAuthenticationMetrics(registry, tokenCache.getIfAvailable());
+        }
+    }
+
+    @Configuration
+    @ConditionalOnMissingClass("io.micrometer.core.instrument.MeterRegistry")
+    static class NoOpMetricsConfig {
+
+        @Bean
+        public AuthenticationMetrics authenticationMetrics() {
+            return AuthenticationMetrics.NOOP;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.security.security_library.config;
+
+import com.security.security_library.authorization.RouteAuthorizationIndex;
+import com.security.security_library.metrics.AuthenticationMetrics;
+import com.security.security_library.providers.JwtAuthenticationProvider;
+import com.security.security_library.reactive.BearerTokenServerAuthenticationConverter;
+import com.security.security_library.reactive.JwtReactiveAuthenticationManager;
+import com.security.security_library.reactive.RouteAuthorizationWebFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jwtVerificationScheduler() {
+        return Schedulers.newParallel("jwt-verification", Runtime.getRuntime().availableProcessors(), true);
+    }
+
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(JwtAuthenticationProvider jwtAuthenticationProvider, Scheduler jwtVerificationScheduler) {
+        return new JwtReactiveAuthenticationManager(jwtAuthenticationProvider, jwtVerificationScheduler);
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, ReactiveAuthenticationManager reactiveAuthenticationManager, RouteAuthorizationIndex routeAuthorizationIndex, AuthenticationMetrics authenticationMetrics) {
+        HttpStatusServerEntryPoint entryPoint = new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED);
+        return http
+                .csrf(csrf -> csrf.disable())
+                .httpBasic(httpBasic -> httpBasic.disable())
+                .formLogin(formLogin -> formLogin.disable())
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(entryPoint))
+                .addFilterAt(authenticationWebFilter(reactiveAuthenticationManager, entryPoint, authenticationMetrics), SecurityWebFiltersOrder.AUTHENTICATION)
+                .addFilterAt(new RouteAuthorizationWebFilter(routeAuthorizationIndex, authenticationMetrics), SecurityWebFiltersOrder.AUTHORIZATION)
+                .build();
+    }
+
+    private AuthenticationWebFilter authenticationWebFilter(ReactiveAuthenticationManager reactiveAuthenticationManager, HttpStatusServerEntryPoint entryPoint, AuthenticationMetrics authenticationMetrics) {
+        AuthenticationWebFilter filter = new AuthenticationWebFilter(reactiveAuthenticationManager);
+        filter.setServerAuthenticationConverter(new BearerTokenServerAuthenticationConverter(authenticationMetrics));
+        filter.setAuthenticationFailureHandler(new ServerAuthenticationEntryPointFailureHandler(entryPoint));
+        filter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+        return filter;
+    }
+}
@@ -1,11 +1,12 @@
 package com.security.security_library.config;
 
 
+import com.security.security_library.authorization.RouteAuthorizationIndex;
 import com.security.security_library.filter.CustomAuthenticationFilter;
 import com.security.security_library.filter.CustomAuthorizationFilter;
+import com.security.security_library.metrics.AuthenticationMetrics;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,17 +17,14 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.ExceptionTranslationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import java.util.List;
-import java.util.Map;
-
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SecurityFilterConfig {
     private final AuthenticationManager authenticationManager;
-
-    @Value("#{${app.request-role-map}}")
-    private final Map<String, String> requestRoleMap;
+    private final RouteAuthorizationIndex routeAuthorizationIndex;
+    private final AuthenticationMetrics authenticationMetrics;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -44,10 +42,13 @@ public class SecurityFilterConfig {
     private CustomAuthenticationFilter customAuthenticationFilter() {
         CustomAuthenticationFilter filter = new CustomAuthenticationFilter("/**");
         filter.setAuthenticationManager(authenticationManager);
+        filter.setAuthenticationMetrics(authenticationMetrics);
         return filter;
     }
 
     private CustomAuthorizationFilter customAuthorizationFilter() {
-        return new CustomAuthorizationFilter(requestRoleMap);
+        CustomAuthorizationFilter filter = new CustomAuthorizationFilter(routeAuthorizationIndex);
+        filter.setAuthenticationMetrics(authenticationMetrics);
+        return filter;
     }
 }
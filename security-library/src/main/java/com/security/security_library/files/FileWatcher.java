@@ -0,0 +1,82 @@
+package com.security.security_library.files;
+
+import lombok.extern.java.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Polls a set of files on a background thread and runs {@code reload} when any of them is added, removed,
+ * or changes its modification time or size. If {@code reload} fails, the failure is logged and the same
+ * change is retried on the next poll, so callers keep their previous state until a reload succeeds.
+ */
+@Log
+public class FileWatcher implements AutoCloseable {
+
+    private final String description;
+    private final Supplier<List<Path>> files;
+    private final Runnable reload;
+    private final ScheduledExecutorService poller;
+    private List<FileState> state;
+
+    /**
+     * Records the current state of {@code files} and starts polling. Call it before the initial load, so
+     * that a change made during that load is picked up by the first poll.
+     */
+    public FileWatcher(String threadName, String description, Supplier<List<Path>> files, Duration interval, Runnable reload) {
+        this.description = description;
+        this.files = files;
+        this.reload = reload;
+        this.state = state();
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        poller.scheduleWithFixedDelay(this::reloadIfChanged, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        poller.shutdownNow();
+    }
+
+    void reloadIfChanged() {
+        try {
+            List<FileState> current = state();
+            if (current.equals(state)) {
+                return;
+            }
+            reload.run();
+            state = current;
+        } catch (Exception e) {
+            log.warning("Failed to reload " + description + ", keeping the previous version: " + e.getMessage());
+        }
+    }
+
+    private List<FileState> state() {
+        List<FileState> result = new ArrayList<>();
+        for (Path file : files.get()) {
+            try {
+                result.add(new FileState(file, Files.getLastModifiedTime(file), Files.size(file)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to stat " + file, e);
+            }
+        }
+        return result;
+    }
+
+    private record FileState(Path file, FileTime lastModified, long size) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.security.security_library.filter;
 
+import com.security.security_library.metrics.AuthenticationMetrics;
+import com.security.security_library.metrics.RejectionCause;
 import com.security.security_library.token.JwtAuthenticationToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,11 +20,16 @@ import java.io.IOException;
 public class CustomAuthenticationFilter extends AbstractAuthenticationProcessingFilter {
 
     private final SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
+    private AuthenticationMetrics authenticationMetrics = AuthenticationMetrics.NOOP;
 
     public CustomAuthenticationFilter(String defaultFilterProcessesUrl) {
         super(defaultFilterProcessesUrl);
     }
 
+    public void setAuthenticationMetrics(AuthenticationMetrics authenticationMetrics) {
+        this.authenticationMetrics = authenticationMetrics;
+    }
+
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
         final String authHeader = request.getHeader("Authorization");
 
@@ -31,6 +38,7 @@ public class CustomAuthenticationFilter extends AbstractAuthenticationProcessing
 
             return super.getAuthenticationManager().authenticate(new JwtAuthenticationToken(token, null));
         }
+        authenticationMetrics.recordRejection(RejectionCause.MISSING_HEADER);
         throw new BadCredentialsException("Missing or invalid Authorization header");
     }
 
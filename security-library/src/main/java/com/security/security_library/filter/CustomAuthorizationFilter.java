@@ -1,76 +1,57 @@
 package com.security.security_library.filter;
 
+import com.security.security_library.authorization.RouteAuthorizationIndex;
+import com.security.security_library.metrics.AuthenticationMetrics;
+import com.security.security_library.metrics.RejectionCause;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpMethod;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextHolderStrategy;
-import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
-import org.springframework.security.web.util.matcher.OrRequestMatcher;
-import org.springframework.security.web.util.matcher.RequestMatcher;
-import org.springframework.web.filter.GenericFilterBean;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
 
 import java.io.IOException;
-import java.nio.file.AccessDeniedException;
-import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 
 public class CustomAuthorizationFilter extends OncePerRequestFilter {
 
+    /**
+     * Decodes the path and strips {@code ;} parameters, so rules see the path the handler mapping sees.
+     */
+    private static final UrlPathHelper URL_PATH_HELPER = UrlPathHelper.defaultInstance;
+
     private final SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
-    private final RequestMatcher protectedEndpoints;
-    private final Map<String, String> requestRoleMap;
+    private final RouteAuthorizationIndex authorizationIndex;
+    private AuthenticationMetrics authenticationMetrics = AuthenticationMetrics.NOOP;
 
     public CustomAuthorizationFilter(Map<String, String> requestRoleMap) {
-        this.requestRoleMap = requestRoleMap;
-        this.protectedEndpoints = createProtectedEndpoints();
+        this(RouteAuthorizationIndex.compile(requestRoleMap));
     }
 
-    private RequestMatcher createProtectedEndpoints() {
-        PathPatternRequestMatcher.Builder builder = PathPatternRequestMatcher.withDefaults();
-        return new OrRequestMatcher(
-                builder.matcher("/v1")
-        );
+    public CustomAuthorizationFilter(RouteAuthorizationIndex authorizationIndex) {
+        this.authorizationIndex = authorizationIndex;
     }
 
-    @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        SecurityContext securityContext = securityContextHolderStrategy.getContext();
-        Authentication authentication = securityContext.getAuthentication();
-        if (authentication.isAuthenticated()) {
-            if (protectedEndpoints.matches(request)) {
-                if (hasRole(authentication.getAuthorities(), requestRoleMap.get(request.getRequestURI()))) {
-                    filterChain.doFilter(request, response);
-                }
-            } else {
-                filterChain.doFilter(request, response);
-            }
-        }
-        throw new AccessDeniedException("User is not Authorized!!");
+    public void setAuthenticationMetrics(AuthenticationMetrics authenticationMetrics) {
+        this.authenticationMetrics = authenticationMetrics;
     }
 
-    private boolean hasRole(Collection<? extends GrantedAuthority> authorities, String role) {
-        if (authorities == null || role == null) {
-            return false;
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = securityContextHolderStrategy.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new AccessDeniedException("User is not Authorized!!");
         }
-        for (GrantedAuthority authority : authorities) {
-            String authorityName = authority.getAuthority().toUpperCase();
-            String roleName = role.toUpperCase();
-
-            if (authorityName.equals("ROLE_" + roleName) || authorityName.equals(roleName)) {
-                return true;
-            }
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        RouteAuthorizationIndex.Rule rule = authorizationIndex.match(request.getMethod(), path, 0);
+        if (rule != null && !authorizationIndex.isGranted(rule, authentication.getAuthorities())) {
+            authenticationMetrics.recordRejection(RejectionCause.FORBIDDEN_ROUTE);
+            throw new AccessDeniedException("User is not Authorized!!");
         }
-        return false;
+        filterChain.doFilter(request, response);
     }
 }
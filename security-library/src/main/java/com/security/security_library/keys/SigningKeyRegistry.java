@@ -0,0 +1,162 @@
+package com.security.security_library.keys;
+
+import com.security.security_library.files.FileWatcher;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Deserializer;
+import io.jsonwebtoken.jackson.io.JacksonDeserializer;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.UnsupportedKeyException;
+import lombok.extern.java.Log;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Resolves JWS verification keys by the {@code kid} header. Keys are loaded from a JWKS file, or from
+ * every {@code .json}/{@code .jwks} file in a directory, and reloaded by a {@link FileWatcher} whenever
+ * the files change. Lookups read an immutable snapshot, so a reload never blocks in-flight requests.
+ */
+@Log
+public class SigningKeyRegistry extends LocatorAdapter<Key> implements AutoCloseable {
+
+    private static final Deserializer<Object> JSON = new JacksonDeserializer<>();
+
+    private final PublicKey defaultKey;
+    private final Path jwksLocation;
+    private final FileWatcher watcher;
+    private volatile Map<String, PublicKey> keys = Map.of();
+
+    public SigningKeyRegistry(@Nullable PublicKey defaultKey, @Nullable Path jwksLocation, Duration refreshInterval) {
+        if (defaultKey == null && jwksLocation == null) {
+            throw new IllegalStateException("Either jwt.public-key or jwt.jwks.location must be configured");
+        }
+        this.defaultKey = defaultKey;
+        this.jwksLocation = jwksLocation;
+        if (jwksLocation == null) {
+            this.watcher = null;
+            return;
+        }
+        this.watcher = new FileWatcher("jwks-refresher", "JWT signing keys from " + jwksLocation, this::jwksFiles, refreshInterval, this::reload);
+        this.keys = loadKeys();
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String keyId = header.getKeyId();
+        if (keyId == null) {
+            if (defaultKey != null) {
+                return defaultKey;
+            }
+            throw new InvalidKeyException("Token has no kid header and no default signing key is configured");
+        }
+        PublicKey key = keys.get(keyId);
+        if (key == null) {
+            throw new InvalidKeyException("Unknown signing key id: " + keyId);
+        }
+        return key;
+    }
+
+    public Collection<String> getKeyIds() {
+        return keys.keySet();
+    }
+
+    @Override
+    public void close() {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    private void reload() {
+        keys = loadKeys();
+        log.info("Reloaded JWT signing keys from " + jwksLocation + ": " + keys.keySet());
+    }
+
+    private Map<String, PublicKey> loadKeys() {
+        Map<String, PublicKey> loaded = new HashMap<>();
+        for (Path file : jwksFiles()) {
+            try {
+                String json = Files.readString(file);
+                for (Jwk<?> jwk : parse(file, json)) {
+                    Key key = jwk.toKey();
+                    if (jwk.getId() == null || !(key instanceof PublicKey publicKey)) {
+                        log.warning("Ignoring JWK without kid or public key material in " + file);
+                        continue;
+                    }
+                    loaded.put(jwk.getId(), publicKey);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read JWKS file " + file, e);
+            }
+        }
+        return Map.copyOf(loaded);
+    }
+
+    /**
+     * Reads a JWK set, or a single JWK when the document has no top-level {@code keys} member. Keys of an
+     * unsupported type in a set are skipped, as the JWK set parser does.
+     */
+    private static Collection<? extends Jwk<?>> parse(Path file, String json) {
+        if (!(JSON.deserialize(new StringReader(json)) instanceof Map<?, ?> document)) {
+            throw new IllegalArgumentException("JWKS file " + file + " does not contain a JSON object");
+        }
+        if (!document.containsKey("keys")) {
+            return List.of(toJwk(document));
+        }
+        if (!(document.get("keys") instanceof Collection<?> members)) {
+            throw new IllegalArgumentException("JWK set 'keys' member in " + file + " is not an array");
+        }
+        List<Jwk<?>> keys = new ArrayList<>(members.size());
+        for (Object member : members) {
+            if (!(member instanceof Map<?, ?> jwk)) {
+                throw new IllegalArgumentException("JWK set in " + file + " contains a key that is not a JSON object");
+            }
+            try {
+                keys.add(toJwk(jwk));
+            } catch (UnsupportedKeyException e) {
+                log.warning("Ignoring unsupported JWK in " + file + ": " + e.getMessage());
+            }
+        }
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Jwk<?> toJwk(Map<?, ?> jwk) {
+        return Jwks.builder().add((Map<String, ?>) jwk).build();
+    }
+
+    private List<Path> jwksFiles() {
+        if (!Files.isDirectory(jwksLocation)) {
+            return List.of(jwksLocation);
+        }
+        try (Stream<Path> files = Files.list(jwksLocation)) {
+            List<Path> result = new ArrayList<>();
+            files.filter(Files::isRegularFile)
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.endsWith(".json") || name.endsWith(".jwks");
+                    })
+                    .sorted()
+                    .forEach(result::add);
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list JWKS directory " + jwksLocation, e);
+        }
+    }
+}
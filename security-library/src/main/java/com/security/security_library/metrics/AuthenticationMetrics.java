@@ -0,0 +1,20 @@
+package com.security.security_library.metrics;
+
+/**
+ * Recording hooks for the authentication pipeline. Implementations must not allocate per call;
+ * {@link #NOOP} is used when no meter registry is available.
+ */
+public interface AuthenticationMetrics {
+
+    AuthenticationMetrics NOOP = new AuthenticationMetrics() {
+    };
+
+    default void recordSignatureVerification(long nanos) {
+    }
+
+    default void recordAuthentication(long nanos) {
+    }
+
+    default void recordRejection(RejectionCause cause) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.security.security_library.metrics;
+
+import com.security.security_library.cache.VerifiedTokenCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers every meter up front, one counter per {@link RejectionCause}, so recording is an array
+ * lookup and never builds tags on the request path.
+ */
+public class MicrometerAuthenticationMetrics implements AuthenticationMetrics {
+
+    private final Timer signatureVerification;
+    private final Timer authentication;
+    private final Counter[] rejections;
+
+    public MicrometerAuthenticationMetrics(MeterRegistry registry, @Nullable VerifiedTokenCache tokenCache) {
+        this.signatureVerification = Timer.builder("security.jwt.verification")
+                .description("JWT signature verification and claims parsing")
+                .register(registry);
+        this.authentication = Timer.builder("security.authentication")
+                .description("Full JWT authentication, including cache lookups")
+                .register(registry);
+
+        RejectionCause[] causes = RejectionCause.values();
+        this.rejections = new Counter[causes.length];
+        for (RejectionCause cause : causes) {
+            rejections[cause.ordinal()] = Counter.builder("security.authentication.rejections")
+                    .description("Rejected requests by cause")
+                    .tag("cause", cause.getTagValue())
+                    .register(registry);
+        }
+
+        if (tokenCache != null) {
+            FunctionCounter.builder("security.jwt.cache.requests", tokenCache, VerifiedTokenCache::getHitCount)
+                    .description("Verified token cache lookups")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("security.jwt.cache.requests", tokenCache, VerifiedTokenCache::getMissCount)
+                    .description("Verified token cache lookups")
+                    .tag("result", "miss")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void recordSignatureVerification(long nanos) {
+        signatureVerification.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordAuthentication(long nanos) {
+        authentication.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRejection(RejectionCause cause) {
+        rejections[cause.ordinal()].increment();
+    }
+}
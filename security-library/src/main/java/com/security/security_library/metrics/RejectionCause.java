@@ -0,0 +1,22 @@
+package com.security.security_library.metrics;
+
+public enum RejectionCause {
+    EXPIRED("expired"),
+    FUTURE_IAT("future_iat"),
+    MISSING_SUBJECT("missing_subject"),
+    BAD_SIGNATURE("bad_signature"),
+    REVOKED("revoked"),
+    MALFORMED("malformed"),
+    MISSING_HEADER("missing_header"),
+    FORBIDDEN_ROUTE("forbidden_route");
+
+    private final String tagValue;
+
+    RejectionCause(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+}
@@ -15,7 +15,7 @@ public class AbstractAuthenticationProvider implements AuthenticationProvider {
         try {
             return parseAndValidateToken(token);
         } catch (Exception e) {
-            log.info("Unexpected error during JWT authentication");
+            log.fine("JWT authentication failed: " + e.getMessage());
             throw new BadCredentialsException("Authentication failed", e);
         }
     }
@@ -0,0 +1,101 @@
+package com.security.security_library.providers;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interns {@code ROLE_} authorities and caches the immutable authority list built for each distinct
+ * role claim, so tokens sharing a role combination reuse the same instances. Both pools are bounded;
+ * once full, new combinations are still built correctly but no longer cached.
+ */
+public class AuthorityPool {
+
+    public static final List<GrantedAuthority> DEFAULT_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final ConcurrentMap<String, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, List<GrantedAuthority>> authoritySets = new ConcurrentHashMap<>();
+    private final int maxAuthorities;
+    private final int maxAuthoritySets;
+
+    public AuthorityPool() {
+        this(4096, 1024);
+    }
+
+    public AuthorityPool(int maxAuthorities, int maxAuthoritySets) {
+        this.maxAuthorities = maxAuthorities;
+        this.maxAuthoritySets = maxAuthoritySets;
+    }
+
+    public List<GrantedAuthority> forRoles(List<?> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return List.of();
+        }
+        List<GrantedAuthority> cached = authoritySets.get(roles);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> key = new ArrayList<>(roles.size());
+        List<GrantedAuthority> result = new ArrayList<>(roles.size());
+        for (Object role : roles) {
+            String name = String.valueOf(role);
+            key.add(name);
+            result.add(authority(name));
+        }
+        return cache(key, List.copyOf(result));
+    }
+
+    public List<GrantedAuthority> forScope(String scope) {
+        if (scope == null) {
+            return List.of();
+        }
+        List<GrantedAuthority> cached = authoritySets.get(scope);
+        if (cached != null) {
+            return cached;
+        }
+        List<GrantedAuthority> result = new ArrayList<>();
+        int length = scope.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && Character.isWhitespace(scope.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && !Character.isWhitespace(scope.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                result.add(authority(scope.substring(start, end)));
+            }
+            start = end;
+        }
+        return cache(scope, List.copyOf(result));
+    }
+
+    public GrantedAuthority authority(String role) {
+        GrantedAuthority authority = authorities.get(role);
+        if (authority != null) {
+            return authority;
+        }
+        authority = new SimpleGrantedAuthority(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role);
+        if (authorities.size() >= maxAuthorities) {
+            return authority;
+        }
+        GrantedAuthority existing = authorities.putIfAbsent(role, authority);
+        return existing != null ? existing : authority;
+    }
+
+    private List<GrantedAuthority> cache(Object key, List<GrantedAuthority> authoritySet) {
+        if (authoritySets.size() >= maxAuthoritySets) {
+            return authoritySet;
+        }
+        List<GrantedAuthority> existing = authoritySets.putIfAbsent(key, authoritySet);
+        return existing != null ? existing : authoritySet;
+    }
+}
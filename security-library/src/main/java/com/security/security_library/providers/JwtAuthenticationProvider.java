@@ -1,41 +1,73 @@
 package com.security.security_library.providers;
 
+import com.security.security_library.cache.VerifiedTokenCache;
+import com.security.security_library.metrics.AuthenticationMetrics;
+import com.security.security_library.metrics.RejectionCause;
+import com.security.security_library.revocation.TokenRevocationRegistry;
 import com.security.security_library.token.JwtAuthenticationToken;
 import com.security.security_library.token.JwtUserPrincipal;
 import io.jsonwebtoken.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
+import org.springframework.lang.Nullable;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import java.security.PublicKey;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Log
 @RequiredArgsConstructor
 @Component
 public class JwtAuthenticationProvider extends AbstractAuthenticationProvider {
 
-    private final PublicKey key;
+    private final JwtParser parser;
+    @Nullable
+    private final VerifiedTokenCache tokenCache;
+    @Nullable
+    private final TokenRevocationRegistry revocationRegistry;
+    private final AuthenticationMetrics metrics;
+    private final AuthorityPool authorityPool = new AuthorityPool();
 
     public Authentication parseAndValidateToken(String token) {
+        long start = System.nanoTime();
         try {
-            JwtParser parser = Jwts.parser()
-                    .setSigningKey(key)
-                    .build();
+            return authenticateToken(token);
+        } finally {
+            metrics.recordAuthentication(System.nanoTime() - start);
+        }
+    }
 
-            Claims claims = parser.parseClaimsJws(token)
-                    .getBody();
+    private Authentication authenticateToken(String token) {
+        if (tokenCache != null) {
+            Authentication cached = tokenCache.get(token);
+            if (cached != null) {
+                JwtUserPrincipal principal = (JwtUserPrincipal) cached.getPrincipal();
+                if (isRevoked(principal.getClaims())) {
+                    throw reject(RejectionCause.REVOKED, "Token has been revoked");
+                }
+                return cached;
+            }
+        }
+        try {
+            long start = System.nanoTime();
+            Claims claims = parser.parseSignedClaims(token)
+                    .getPayload();
+            metrics.recordSignatureVerification(System.nanoTime() - start);
 
             validateTokenClaims(claims);
-            return getAuthentication(claims, token);
+            Authentication authentication = getAuthentication(claims, token);
+            if (tokenCache != null) {
+                tokenCache.put(token, authentication, claims.getExpiration());
+            }
+            return authentication;
         } catch (Exception e) {
+            if (!(e instanceof BadCredentialsException)) {
+                metrics.recordRejection(rejectionCause(e));
+            }
             throw new BadCredentialsException("Failed to parse JWT token", e);
         }
     }
@@ -44,19 +76,42 @@ public class JwtAuthenticationProvider extends AbstractAuthenticationProvider {
 
         Date expiration = claims.getExpiration();
         if (expiration != null && expiration.before(new Date())) {
-            throw new BadCredentialsException("Token has expired");
+            throw reject(RejectionCause.EXPIRED, "Token has expired");
         }
 
         if (claims.getSubject() == null || claims.getSubject().trim().isEmpty()) {
-            throw new BadCredentialsException("Token subject is missing");
+            throw reject(RejectionCause.MISSING_SUBJECT, "Token subject is missing");
         }
 
         Date issuedAt = claims.getIssuedAt();
         if (issuedAt != null && issuedAt.after(new Date())) {
-            throw new BadCredentialsException("Token issued in the future");
+            throw reject(RejectionCause.FUTURE_IAT, "Token issued in the future");
+        }
+
+        if (isRevoked(claims)) {
+            throw reject(RejectionCause.REVOKED, "Token has been revoked");
         }
     }
 
+    private boolean isRevoked(Claims claims) {
+        return revocationRegistry != null && revocationRegistry.isRevoked(claims.getId(), claims.get("userId", String.class));
+    }
+
+    private BadCredentialsException reject(RejectionCause cause, String message) {
+        metrics.recordRejection(cause);
+        return new BadCredentialsException(message);
+    }
+
+    private static RejectionCause rejectionCause(Exception e) {
+        if (e instanceof ExpiredJwtException) {
+            return RejectionCause.EXPIRED;
+        }
+        if (e instanceof io.jsonwebtoken.security.SecurityException) {
+            return RejectionCause.BAD_SIGNATURE;
+        }
+        return RejectionCause.MALFORMED;
+    }
+
     private Authentication getAuthentication(Claims claims, String token) {
         String username = claims.getSubject();
         String email = claims.get("email", String.class);
@@ -75,34 +130,23 @@ public class JwtAuthenticationProvider extends AbstractAuthenticationProvider {
         return new JwtAuthenticationToken(principal, null, authorities);
     }
 
-    @SuppressWarnings("unchecked")
     private Collection<? extends GrantedAuthority> extractAuthorities(Claims claims) {
-        List<String> roles = null;
+        List<GrantedAuthority> authorities = List.of();
 
         if (claims.containsKey("roles")) {
-            roles = claims.get("roles", List.class);
+            authorities = authorityPool.forRoles(claims.get("roles", List.class));
         } else if (claims.containsKey("authorities")) {
-            roles = claims.get("authorities", List.class);
+            authorities = authorityPool.forRoles(claims.get("authorities", List.class));
         } else if (claims.containsKey("permissions")) {
-            roles = claims.get("permissions", List.class);
+            authorities = authorityPool.forRoles(claims.get("permissions", List.class));
         } else if (claims.containsKey("scope")) {
-            String scopeString = claims.get("scope", String.class);
-            if (scopeString != null) {
-                roles = List.of(scopeString.split("\\s+"));
-            }
+            authorities = authorityPool.forScope(claims.get("scope", String.class));
         }
 
-        if (roles == null || roles.isEmpty()) {
-            log.info("No roles found in token claims, using default USER role");
-            return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        if (authorities.isEmpty()) {
+            log.fine("No roles found in token claims, using default USER role");
+            return AuthorityPool.DEFAULT_AUTHORITIES;
         }
-
-        return roles.stream()
-                .map(role -> {
-                    // Ensure role has ROLE_ prefix
-                    String authority = role.startsWith("ROLE_") ? role : "ROLE_" + role;
-                    return new SimpleGrantedAuthority(authority);
-                })
-                .collect(Collectors.toList());
+        return authorities;
     }
 }
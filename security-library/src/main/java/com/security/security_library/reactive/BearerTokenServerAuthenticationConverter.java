@@ -0,0 +1,29 @@
+package com.security.security_library.reactive;
+
+import com.security.security_library.metrics.AuthenticationMetrics;
+import com.security.security_library.metrics.RejectionCause;
+import com.security.security_library.token.JwtAuthenticationToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class BearerTokenServerAuthenticationConverter implements ServerAuthenticationConverter {
+
+    private final AuthenticationMetrics authenticationMetrics;
+
+    @Override
+    public Mono<Authentication> convert(ServerWebExchange exchange) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return Mono.just(new JwtAuthenticationToken(authHeader.substring(7), null));
+        }
+        authenticationMetrics.recordRejection(RejectionCause.MISSING_HEADER);
+        return Mono.error(new BadCredentialsException("Missing or invalid Authorization header"));
+    }
+}
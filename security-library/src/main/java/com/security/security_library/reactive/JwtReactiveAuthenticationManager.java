@@ -0,0 +1,25 @@
+package com.security.security_library.reactive;
+
+import com.security.security_library.providers.JwtAuthenticationProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Reactive adapter over {@link JwtAuthenticationProvider}. Signature verification is CPU bound, so it
+ * runs on a dedicated scheduler and never on the event loop that received the request.
+ */
+@RequiredArgsConstructor
+public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final JwtAuthenticationProvider jwtAuthenticationProvider;
+    private final Scheduler verificationScheduler;
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        return Mono.fromCallable(() -> jwtAuthenticationProvider.authenticate(authentication))
+                .subscribeOn(verificationScheduler);
+    }
+}
@@ -0,0 +1,57 @@
+package com.security.security_library.reactive;
+
+import com.security.security_library.authorization.RouteAuthorizationIndex;
+import com.security.security_library.metrics.AuthenticationMetrics;
+import com.security.security_library.metrics.RejectionCause;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class RouteAuthorizationWebFilter implements WebFilter {
+
+    private final RouteAuthorizationIndex authorizationIndex;
+    private final AuthenticationMetrics authenticationMetrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(authentication -> isGranted(exchange.getRequest(), authentication))
+                .switchIfEmpty(Mono.error(() -> new AccessDeniedException("User is not Authorized!!")))
+                .flatMap(authentication -> chain.filter(exchange));
+    }
+
+    private boolean isGranted(ServerHttpRequest request, Authentication authentication) {
+        if (!authentication.isAuthenticated()) {
+            return false;
+        }
+        String path = decodedPath(request.getPath().pathWithinApplication());
+        RouteAuthorizationIndex.Rule rule = authorizationIndex.match(request.getMethod().name(), path, 0);
+        if (rule == null || authorizationIndex.isGranted(rule, authentication.getAuthorities())) {
+            return true;
+        }
+        authenticationMetrics.recordRejection(RejectionCause.FORBIDDEN_ROUTE);
+        return false;
+    }
+
+    /**
+     * Joins the decoded path segments without {@code ;} parameters, which is what the handler mapping
+     * matches against.
+     */
+    private static String decodedPath(PathContainer path) {
+        StringBuilder decoded = new StringBuilder(path.value().length());
+        for (PathContainer.Element element : path.elements()) {
+            decoded.append(element instanceof PathContainer.PathSegment segment ? segment.valueToMatch() : element.value());
+        }
+        return decoded.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.security.security_library.revocation;
+
+import java.util.Collection;
+
+/**
+ * Immutable Bloom filter over strings. Probes use double hashing of two 64-bit FNV-1a hashes
+ * computed straight from the characters, so a lookup does not allocate.
+ */
+final class BloomFilter {
+
+    private static final long SEED_1 = 0xcbf29ce484222325L;
+    private static final long SEED_2 = 0x84222325cbf29ce4L;
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long[] bits, int hashCount) {
+        this.bits = bits;
+        this.bitCount = (long) bits.length * Long.SIZE;
+        this.hashCount = hashCount;
+    }
+
+    static BloomFilter of(Collection<String> values, double falsePositiveProbability) {
+        int expected = Math.max(1, values.size());
+        long optimalBits = (long) Math.ceil(-expected * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+        int hashCount = Math.max(1, (int) Math.round((double) words * Long.SIZE / expected * Math.log(2)));
+        BloomFilter filter = new BloomFilter(new long[words], hashCount);
+        for (String value : values) {
+            filter.add(value);
+        }
+        return filter;
+    }
+
+    boolean mightContain(String value) {
+        long hash1 = hash(value, SEED_1);
+        long hash2 = hash(value, SEED_2);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(String value) {
+        long hash1 = hash(value, SEED_1);
+        long hash2 = hash(value, SEED_2);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private static long hash(String value, long seed) {
+        long hash = seed;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,102 @@
+package com.security.security_library.revocation;
+
+import com.security.security_library.files.FileWatcher;
+import lombok.extern.java.Log;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Revoked token ids and user ids loaded from a local file, one {@code jti:<id>} or {@code userId:<id>}
+ * entry per line ({@code #} starts a comment). Each set sits behind a Bloom filter, so the common
+ * "not revoked" answer costs a few hash probes; only Bloom hits are confirmed against the exact set.
+ * The file is polled for changes by a {@link FileWatcher} and a rebuilt snapshot is swapped in atomically.
+ */
+@Log
+public class TokenRevocationRegistry implements AutoCloseable {
+
+    private static final String JTI_PREFIX = "jti:";
+    private static final String USER_ID_PREFIX = "userId:";
+
+    private final Path location;
+    private final double falsePositiveProbability;
+    private final FileWatcher watcher;
+    private volatile Snapshot snapshot;
+
+    public TokenRevocationRegistry(Path location, Duration refreshInterval, double falsePositiveProbability) {
+        this.location = location;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.watcher = new FileWatcher("token-revocation-refresher", "token revocation list " + location, () -> List.of(location),
+                refreshInterval, this::reload);
+        this.snapshot = load();
+    }
+
+    public boolean isRevoked(@Nullable String tokenId, @Nullable String userId) {
+        Snapshot current = snapshot;
+        return current.tokenIds.contains(tokenId) || current.userIds.contains(userId);
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current.tokenIds.values.size() + current.userIds.values.size();
+    }
+
+    @Override
+    public void close() {
+        watcher.close();
+    }
+
+    private void reload() {
+        snapshot = load();
+        log.info("Reloaded token revocation list from " + location + ": " + size() + " entries");
+    }
+
+    private Snapshot load() {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(location);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read token revocation list " + location, e);
+        }
+        Set<String> tokenIds = new HashSet<>();
+        Set<String> userIds = new HashSet<>();
+        for (String line : lines) {
+            String entry = line.strip();
+            if (entry.isEmpty() || entry.startsWith("#")) {
+                continue;
+            }
+            if (entry.startsWith(JTI_PREFIX)) {
+                tokenIds.add(entry.substring(JTI_PREFIX.length()).strip());
+            } else if (entry.startsWith(USER_ID_PREFIX)) {
+                userIds.add(entry.substring(USER_ID_PREFIX.length()).strip());
+            } else {
+                log.warning("Ignoring unrecognised revocation entry in " + location + ": " + entry);
+            }
+        }
+        return new Snapshot(new RevokedSet(tokenIds, falsePositiveProbability), new RevokedSet(userIds, falsePositiveProbability));
+    }
+
+    private record Snapshot(RevokedSet tokenIds, RevokedSet userIds) {
+    }
+
+    private static final class RevokedSet {
+        private final Set<String> values;
+        private final BloomFilter filter;
+
+        RevokedSet(Set<String> values, double falsePositiveProbability) {
+            this.values = Set.copyOf(values);
+            this.filter = BloomFilter.of(values, falsePositiveProbability);
+        }
+
+        boolean contains(@Nullable String value) {
+            return value != null && !values.isEmpty() && filter.mightContain(value) && values.contains(value);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.security.security_library.filter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomAuthorizationFilterTest {
+
+    private final CustomAuthorizationFilter filter = new CustomAuthorizationFilter(Map.of("/v1/admin", "ADMIN", "GET /v1/reports", "OPS"));
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void encodedPathIsMatchedAgainstTheDecodedRule() {
+        authenticate("USER");
+
+        assertThatThrownBy(() -> filter.doFilter(request("GET", "/v1/%61dmin"), new MockHttpServletResponse(), new MockFilterChain()))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void pathParametersDoNotHideTheRule() {
+        authenticate("USER");
+
+        assertThatThrownBy(() -> filter.doFilter(request("GET", "/v1/admin;jsessionid=1"), new MockHttpServletResponse(), new MockFilterChain()))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void headFallsBackToTheGetRule() {
+        authenticate("USER");
+
+        assertThatThrownBy(() -> filter.doFilter(request("HEAD", "/v1/reports"), new MockHttpServletResponse(), new MockFilterChain()))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void grantedRoleIsLetThrough() throws Exception {
+        authenticate("ADMIN");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("GET", "/app/v1/%61dmin", "/app"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private static MockHttpServletRequest request(String method, String requestUri) {
+        return request(method, requestUri, "");
+    }
+
+    private static MockHttpServletRequest request(String method, String requestUri, String contextPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, requestUri);
+        request.setContextPath(contextPath);
+        return request;
+    }
+
+    private static void authenticate(String role) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user", null, AuthorityUtils.createAuthorityList("ROLE_" + role)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.security.security_library.reactive;
+
+import com.security.security_library.authorization.RouteAuthorizationIndex;
+import com.security.security_library.metrics.AuthenticationMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.net.URI;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteAuthorizationWebFilterTest {
+
+    private final RouteAuthorizationWebFilter filter = new RouteAuthorizationWebFilter(
+            RouteAuthorizationIndex.compile(Map.of("/v1/admin", "ADMIN")), AuthenticationMetrics.NOOP);
+
+    private final WebFilterChain chain = exchange -> Mono.empty();
+
+    @Test
+    void encodedPathIsMatchedAgainstTheDecodedRule() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.GET, URI.create("/v1/%61dmin;x=1")).build());
+
+        assertThatThrownBy(() -> filter.filter(exchange, chain).contextWrite(authentication("USER")).block())
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void grantedRoleIsLetThrough() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.GET, URI.create("/v1/%61dmin")).build());
+
+        filter.filter(exchange, chain).contextWrite(authentication("ADMIN")).block();
+    }
+
+    private static Context authentication(String role) {
+        return ReactiveSecurityContextHolder.withAuthentication(
+                new UsernamePasswordAuthenticationToken("user", null, AuthorityUtils.createAuthorityList("ROLE_" + role)));
+    }
+}